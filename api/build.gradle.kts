@@ -1,6 +1,7 @@
 plugins {
     id("org.springframework.boot") version "3.3.3"
     id("io.spring.dependency-management") version "1.1.5"
+    id("me.champeau.jmh") version "0.7.2"
     java
 }
 
@@ -11,6 +12,16 @@ java {
     sourceCompatibility = JavaVersion.VERSION_17
 }
 
+// 가상 스레드 모드 빌드/실행 여부 (-PvirtualThreads, 아래 bootRun / loadTest 참고)
+val virtualThreads = project.hasProperty("virtualThreads")
+
+// MySQL Connector/J 9.x: 8.x의 synchronized 블록이 ReentrantLock으로 바뀜 → 가상 스레드가 쿼리 대기 중 캐리어를 붙잡지 않음
+// - 가상 스레드 모드 빌드(-PvirtualThreads, docker API_JAVA_VERSION=21)에서만 올린다
+// - 기본 빌드는 Spring Boot 3.3 BOM 기본값(8.3.0) 그대로
+if (virtualThreads) {
+    extra["mysql.version"] = "9.0.0"
+}
+
 repositories {
     mavenCentral()
 }
@@ -22,15 +33,121 @@ dependencies {
     // JPA + Hibernate
     implementation("org.springframework.boot:spring-boot-starter-data-jpa")
 
-    // ⭐ MySQL 드라이버 - 버전 X, Spring Boot BOM이 관리
+    // 메트릭 (/actuator/prometheus) - 버전은 Spring Boot BOM이 관리
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
+    runtimeOnly("io.micrometer:micrometer-registry-prometheus")
+
+    // ⭐ MySQL 드라이버 - 버전 X, Spring Boot BOM이 관리 (-PvirtualThreads 빌드만 위에서 9.x로 지정)
     runtimeOnly("com.mysql:mysql-connector-j")
 
+    // OAuth 서버 호출용 HTTP 클라이언트 (커넥션 풀 + keep-alive) - 버전은 Spring Boot BOM이 관리
+    implementation("org.apache.httpcomponents.client5:httpclient5")
+
+    // OAuth 서버 비동기 호출용 WebClient (Reactor Netty) - 서버는 계속 Spring MVC(톰캣)로 동작
+    implementation("org.springframework.boot:spring-boot-starter-webflux")
+
     // JWT 라이브러리
     implementation("io.jsonwebtoken:jjwt-api:0.12.3")
     implementation("io.jsonwebtoken:jjwt-impl:0.12.3")
     implementation("io.jsonwebtoken:jjwt-jackson:0.12.3")
 
     testImplementation("org.springframework.boot:spring-boot-starter-test")
+    // 테스트 (src/test) - 실제 MySQL 대신 인메모리 H2 (MySQL 모드)
+    testImplementation("com.h2database:h2")
+    testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+
+    // JMH 벤치마크 (src/jmh) - 실제 MySQL 대신 인메모리 H2 사용
+    jmh("com.h2database:h2")
+}
+
+// =============================
+//  JMH 벤치마크
+//  ./gradlew jmh                              : 전체 실행
+//  ./gradlew jmh -PjmhIncludes=CartService    : 이름에 포함된 벤치마크만 실행
+//  결과: build/results/jmh/results.json (릴리스 간 diff 용)
+// =============================
+jmh {
+    jmhVersion.set("1.37")
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+    timeUnit.set("us")
+    benchmarkMode.set(listOf("avgt"))
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("results/jmh/results.json"))
+    (findProperty("jmhIncludes") as String?)?.let { includes.set(listOf(it)) }
+}
+
+// =============================
+//  가상 스레드 모드 (virtual 프로필, Java 21 런타임)
+//  ./gradlew bootRun -PvirtualThreads   : Java 21 툴체인으로 실행 + virtual 프로필 추가 (+ MySQL Connector/J 9.x)
+//  ./gradlew bootJar -PvirtualThreads   : virtual 프로필로 배포할 JAR (MySQL Connector/J 9.x)
+//  - 컴파일은 계속 Java 17 (sourceCompatibility), 실행 JVM만 21 → 기본 빌드/배포에는 영향 없음
+//  - Java 21 JDK가 Gradle 툴체인으로 탐지되어야 함 (설치 경로 또는 org.gradle.java.installations.paths)
+//  - 캐리어 스레드 고정(synchronized 안에서 대기)이 생기면 스택을 출력 (-Djdk.tracePinnedThreads=short)
+// =============================
+val java21Launcher = javaToolchains.launcherFor {
+    languageVersion.set(JavaLanguageVersion.of(21))
+}
+val pinnedThreadTrace = "-Djdk.tracePinnedThreads=short"
+
+tasks.named<org.springframework.boot.gradle.tasks.run.BootRun>("bootRun") {
+    if (virtualThreads) {
+        javaLauncher.set(java21Launcher)
+        jvmArgs(pinnedThreadTrace)
+        // include: SPRING_PROFILES_ACTIVE(prod 등)는 그대로 두고 virtual만 추가
+        systemProperty("spring.profiles.include", "virtual")
+    }
+}
+
+// =============================
+//  부하 테스트 (src/loadtest)
+//  ./gradlew loadTest                                   : 기본 설정 (60초)
+//  ./gradlew loadTest -PloadtestShort                   : CI용 짧은 실행 (10초)
+//  ./gradlew loadTest -PloadtestArgs="--rate=100 --duration=120"
+//  ./gradlew oauthOutageCheck                           : OAuth 서버 장애(무응답/5xx) 시 워커 고갈 여부 점검
+//  ./gradlew loadTest -PvirtualThreads                  : Java 21에서 플랫폼 스레드 → 가상 스레드 순서로 실행해 비교
+//  - API(H2 + db/*.sql 시드) + OAuth /api/me 스텁을 같은 JVM에서 띄우고 부하를 건다
+// =============================
+val loadtest: SourceSet by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output
+    runtimeClasspath += sourceSets.main.get().output
+}
+
+configurations[loadtest.implementationConfigurationName].extendsFrom(configurations.implementation.get())
+configurations[loadtest.runtimeOnlyConfigurationName].extendsFrom(configurations.runtimeOnly.get())
+
+dependencies {
+    "loadtestImplementation"("com.h2database:h2")
+    "loadtestImplementation"("org.hdrhistogram:HdrHistogram:2.2.2")
+}
+
+tasks.register<JavaExec>("loadTest") {
+    group = "verification"
+    description = "API 부하 테스트 (browse → cart → checkout → receipt)"
+    classpath = loadtest.runtimeClasspath
+    mainClass.set("com.wheats.api.loadtest.LoadTestMain")
+    systemProperty("loadtest.db-dir", rootProject.file("../db").absolutePath)
+    systemProperty("loadtest.report-dir", layout.buildDirectory.dir("reports/loadtest").get().asFile.absolutePath)
+    val extraArgs = mutableListOf<String>()
+    if (project.hasProperty("loadtestShort")) {
+        extraArgs.add("--short")
+    }
+    if (virtualThreads) {
+        javaLauncher.set(java21Launcher)
+        jvmArgs(pinnedThreadTrace)
+        extraArgs.add("--threads=both")   // -PloadtestArgs="--threads=virtual" 로 덮어쓸 수 있음
+    }
+    (findProperty("loadtestArgs") as String?)?.let { extraArgs.addAll(it.split(" ").filter(String::isNotBlank)) }
+    args(extraArgs)
+}
+
+tasks.register<JavaExec>("oauthOutageCheck") {
+    group = "verification"
+    description = "OAuth 서버 장애 시 타임아웃/회로 차단/stale 대체 동작 점검"
+    classpath = loadtest.runtimeClasspath
+    mainClass.set("com.wheats.api.loadtest.OAuthOutageCheck")
+    systemProperty("loadtest.db-dir", rootProject.file("../db").absolutePath)
 }
 
 tasks.withType<Test> {
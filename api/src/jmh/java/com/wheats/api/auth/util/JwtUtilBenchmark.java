@@ -0,0 +1,57 @@
+package com.wheats.api.auth.util;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * JWT 파싱 (JwtUtil)
+ * - parseClaims: 서명 검증 1번으로 모든 클레임 추출
+ * - separateGetters: 클레임마다 getXxxFromToken 호출 (서명 검증을 매번 반복)
+ * - rebuildKeyAndParserPerCall: 기준선 - 키/파서를 재사용하기 전 방식 (호출마다 hmacShaKeyFor + Jwts.parser() 생성)
+ */
+@State(Scope.Benchmark)
+public class JwtUtilBenchmark {
+
+    private static final String SECRET = "wheats-benchmark-secret-key-for-jwt-token-parsing-0123456789";
+
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        jwtUtil = new JwtUtil(SECRET);
+        token = jwtUtil.generateToken(1L, "CONSUMER");
+    }
+
+    @Benchmark
+    public JwtClaims parseClaims() {
+        return jwtUtil.parseClaims(token);
+    }
+
+    @Benchmark
+    public void separateGetters(Blackhole bh) {
+        bh.consume(jwtUtil.getUserIdFromToken(token));
+        bh.consume(jwtUtil.getRoleFromToken(token));
+        bh.consume(jwtUtil.getExpirationDateFromToken(token));
+    }
+
+    @Benchmark
+    public Claims rebuildKeyAndParserPerCall() {
+        SecretKey key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        return Jwts.parser()
+                .verifyWith(key)
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+}
@@ -0,0 +1,57 @@
+package com.wheats.api.auth.verifier;
+
+import ch.qos.logback.classic.Level;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+
+/**
+ * 토큰 검증 요청마다 남기던 로그의 비용 비교
+ * - consolePrints: 예전 System.out.println 6줄 (문자열 연결 + 동기 출력)
+ *   → 콘솔 대신 버리는 스트림에 써서 인코딩/동기화 비용만 측정 (실제 콘솔은 이보다 느림)
+ * - slf4jDebugDisabled: 지금 방식 (DEBUG 꺼짐, 토큰 미리보기는 Supplier라 만들어지지 않음)
+ */
+@State(Scope.Benchmark)
+public class VerifierLoggingBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(VerifierLoggingBenchmark.class);
+
+    // final이면 JIT가 상수로 접어 버릴 수 있으므로 일반 필드로 둔다
+    private String accessToken = "a1b2c3d4e5f6g7h8i9j0k1l2m3n4o5p6q7r8s9t0u1v2w3x4";
+    private String url = "http://oauth-server:3000/api/me";
+    private PrintStream console;
+
+    @Setup
+    public void setUp() {
+        console = new PrintStream(OutputStream.nullOutputStream(), true);
+        // 운영과 같이 INFO 레벨 (Spring 없이 실행되므로 직접 설정)
+        ((ch.qos.logback.classic.Logger) log).setLevel(Level.INFO);
+    }
+
+    @Benchmark
+    public void consolePrints() {
+        String tokenPreview = accessToken.substring(0, 10) + "..." + accessToken.substring(accessToken.length() - 5);
+        String bearerToken = "Bearer " + accessToken;
+        console.println("🔍 OAuth Token Validation Request:");
+        console.println("   Token Length: " + accessToken.length());
+        console.println("   Token Preview: " + tokenPreview);
+        console.println("   OAuth Server URL: " + url);
+        console.println("   Request URL: " + url);
+        console.println("   Authorization Header: " + bearerToken.substring(0, 20) + "...");
+    }
+
+    @Benchmark
+    public void slf4jDebugDisabled() {
+        log.atDebug().setMessage("OAuth 토큰 검증 요청: tokenLength={}, token={}, url={}")
+                .addArgument(() -> accessToken.length())
+                .addArgument(() -> accessToken.substring(0, 10) + "..." + accessToken.substring(accessToken.length() - 5))
+                .addArgument(url)
+                .log();
+    }
+}
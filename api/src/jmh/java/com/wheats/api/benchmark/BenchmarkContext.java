@@ -0,0 +1,37 @@
+package com.wheats.api.benchmark;
+
+import com.wheats.api.WhEatsApiApplication;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 벤치마크용 Spring 컨텍스트 (jmh 프로필 + H2 + 시드 데이터)
+ * - 각 벤치마크의 @Setup(Level.Trial)에서 한 번 띄우고 @TearDown에서 닫는다
+ */
+public final class BenchmarkContext {
+
+    private BenchmarkContext() {
+    }
+
+    public static ConfigurableApplicationContext start() {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(WhEatsApiApplication.class)
+                .profiles("jmh")
+                .logStartupInfo(false)
+                .run();
+        BenchmarkData.seed(context.getBean(JdbcTemplate.class));
+        return context;
+    }
+
+    /**
+     * 프록시(@Transactional 등)를 벗긴 실제 빈
+     * - package-private 메서드를 직접 호출할 때 프록시가 아닌 대상 객체에서 실행되도록 하기 위함
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T target(ConfigurableApplicationContext context, Class<T> type) {
+        T bean = context.getBean(type);
+        Object target = AopProxyUtils.getSingletonTarget(bean);
+        return target != null ? (T) target : bean;
+    }
+}
@@ -0,0 +1,89 @@
+package com.wheats.api.benchmark;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 벤치마크 시드 데이터 (db/init.sql보다 크게 잡아 실제 운영 규모에 가깝게)
+ *
+ * - 가게 STORE_COUNT개 × 메뉴 MENUS_PER_STORE개
+ * - CART_USER_ID    : 1번 가게 메뉴 CART_ITEM_COUNT개가 담긴 ACTIVE 장바구니 (id = CART_ID)
+ * - ORDER_USER_ID   : 주문 생성 벤치마크용 (포인트 충분)
+ * - HISTORY_USER_ID : 주문 ORDER_HISTORY_COUNT건 × 아이템 ORDER_ITEM_COUNT개
+ *
+ * 빈 H2 DB에 순서대로 넣으므로 모든 id는 1부터 시작한다.
+ */
+public final class BenchmarkData {
+
+    public static final int STORE_COUNT = 50;
+    public static final int MENUS_PER_STORE = 20;
+
+    public static final long CART_USER_ID = 1L;
+    public static final long ORDER_USER_ID = 2L;
+    public static final long HISTORY_USER_ID = 3L;
+
+    public static final long CART_ID = 1L;
+    public static final int CART_ITEM_COUNT = 5;
+
+    public static final int ORDER_HISTORY_COUNT = 30;
+    public static final int ORDER_ITEM_COUNT = 3;
+
+    private static final String[] CATEGORIES = {"치킨", "분식", "돈까스", "패스트푸드", "카페·디저트"};
+
+    private BenchmarkData() {
+    }
+
+    static void seed(JdbcTemplate jdbc) {
+        List<Object[]> stores = new ArrayList<>();
+        for (int i = 1; i <= STORE_COUNT; i++) {
+            stores.add(new Object[]{
+                    "가게 " + i, CATEGORIES[i % CATEGORIES.length], "벤치마크용 가게 설명 " + i,
+                    10000 + (i % 5) * 1000, 2000, 3.0 + (i % 20) / 10.0, i * 7, true
+            });
+        }
+        jdbc.batchUpdate("INSERT INTO stores (name, category, description, min_order_price, delivery_tip, "
+                + "rating, review_count, is_open) VALUES (?, ?, ?, ?, ?, ?, ?, ?)", stores);
+
+        List<Object[]> menus = new ArrayList<>();
+        for (int s = 1; s <= STORE_COUNT; s++) {
+            for (int m = 1; m <= MENUS_PER_STORE; m++) {
+                menus.add(new Object[]{(long) s, "메뉴 " + s + "-" + m, 5000 + m * 500, "메뉴 설명", true});
+            }
+        }
+        jdbc.batchUpdate("INSERT INTO menus (store_id, name, price, description, is_available) "
+                + "VALUES (?, ?, ?, ?, ?)", menus);
+
+        jdbc.update("INSERT INTO users (name, email, role, point) VALUES (?, ?, ?, ?)",
+                "장바구니유저", "cart@bench.local", "CONSUMER", 100000);
+        jdbc.update("INSERT INTO users (name, email, role, point) VALUES (?, ?, ?, ?)",
+                "주문유저", "order@bench.local", "CONSUMER", Integer.MAX_VALUE);
+        jdbc.update("INSERT INTO users (name, email, role, point) VALUES (?, ?, ?, ?)",
+                "이력유저", "history@bench.local", "CONSUMER", 100000);
+
+        jdbc.update("INSERT INTO carts (user_id, store_id, status) VALUES (?, ?, ?)", CART_USER_ID, 1L, "ACTIVE");
+        List<Object[]> cartItems = new ArrayList<>();
+        for (int m = 1; m <= CART_ITEM_COUNT; m++) {
+            cartItems.add(new Object[]{CART_ID, (long) m, 2, "ACTIVE"});
+        }
+        jdbc.batchUpdate("INSERT INTO cart_items (cart_id, menu_id, quantity, status) VALUES (?, ?, ?, ?)",
+                cartItems);
+
+        List<Object[]> orderItems = new ArrayList<>();
+        for (int o = 1; o <= ORDER_HISTORY_COUNT; o++) {
+            long storeId = (o % STORE_COUNT) + 1;
+            jdbc.update("INSERT INTO orders (order_number, user_id, store_id, cart_id, status, total_price, "
+                            + "store_name, first_item_name, item_count, order_amount, created_at, paid_at) "
+                            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)",
+                    "BENCH-" + o, HISTORY_USER_ID, storeId, CART_ID, "PAID", 30000,
+                    "가게 " + storeId, "메뉴 " + storeId + "-1", ORDER_ITEM_COUNT, 30000);
+            for (int i = 0; i < ORDER_ITEM_COUNT; i++) {
+                long menuId = (storeId - 1) * MENUS_PER_STORE + i + 1;
+                orderItems.add(new Object[]{(long) o, menuId, "메뉴 " + storeId + "-" + (i + 1), 1, 10000});
+            }
+        }
+        jdbc.batchUpdate("INSERT INTO order_items (order_id, menu_id, menu_name, quantity, unit_price) "
+                + "VALUES (?, ?, ?, ?, ?)", orderItems);
+    }
+}
@@ -0,0 +1,48 @@
+package com.wheats.api.mypage.service;
+
+import com.wheats.api.benchmark.BenchmarkContext;
+import com.wheats.api.benchmark.BenchmarkData;
+import com.wheats.api.mypage.dto.OrderHistoryPageResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * 주문 내역 (MyPageService.buildItemDescription / getOrderHistoryPage)
+ */
+@State(Scope.Benchmark)
+public class MyPageServiceBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private MyPageService myPageService;
+    private String firstMenuName = "싸이버거 세트";
+    private long itemCount = 3;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        myPageService = BenchmarkContext.target(context, MyPageService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    /** 주문 1건의 상품 설명 ("메뉴 외 N개") */
+    @Benchmark
+    public String buildItemDescription() {
+        return myPageService.buildItemDescription(firstMenuName, itemCount);
+    }
+
+    /** 주문 내역 첫 페이지 (기본 페이지 크기) */
+    @Benchmark
+    public OrderHistoryPageResponse getOrderHistoryPage() {
+        return myPageService.getOrderHistoryPage(BenchmarkData.HISTORY_USER_ID, null,
+                MyPageService.DEFAULT_ORDER_PAGE_SIZE);
+    }
+}
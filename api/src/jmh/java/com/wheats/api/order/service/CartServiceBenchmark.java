@@ -0,0 +1,61 @@
+package com.wheats.api.order.service;
+
+import com.wheats.api.benchmark.BenchmarkContext;
+import com.wheats.api.benchmark.BenchmarkData;
+import com.wheats.api.order.cache.ActiveCartCache;
+import com.wheats.api.order.dto.CartResponse;
+import com.wheats.api.order.entity.CartEntity;
+import com.wheats.api.order.repository.CartRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.Optional;
+
+/**
+ * 장바구니 응답 생성 (CartService.buildCartResponse / getMyCart - 캐시 히트/미스)
+ */
+@State(Scope.Benchmark)
+public class CartServiceBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private CartService cartService;
+    private ActiveCartCache activeCartCache;
+    private CartEntity cart;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        cartService = BenchmarkContext.target(context, CartService.class);
+        activeCartCache = context.getBean(ActiveCartCache.class);
+        cart = context.getBean(CartRepository.class).findById(BenchmarkData.CART_ID).orElseThrow();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    /** 조인 쿼리 1번 + DTO 조립 */
+    @Benchmark
+    public CartResponse buildCartResponse() {
+        return cartService.buildCartResponse(cart);
+    }
+
+    /** 장바구니 조회 API 전체 - ACTIVE 장바구니 캐시 히트 (DB 조회 없음) */
+    @Benchmark
+    public Optional<CartResponse> getMyCart() {
+        return cartService.getMyCart(BenchmarkData.CART_USER_ID);
+    }
+
+    /** 장바구니 조회 API 전체 - 캐시 미스 (ACTIVE 장바구니 조회 + 응답 생성 + 캐시 저장) */
+    @Benchmark
+    public Optional<CartResponse> getMyCartUncached() {
+        activeCartCache.invalidate(BenchmarkData.CART_USER_ID);
+        return cartService.getMyCart(BenchmarkData.CART_USER_ID);
+    }
+}
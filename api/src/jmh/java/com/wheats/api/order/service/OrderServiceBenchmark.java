@@ -0,0 +1,61 @@
+package com.wheats.api.order.service;
+
+import com.wheats.api.benchmark.BenchmarkContext;
+import com.wheats.api.benchmark.BenchmarkData;
+import com.wheats.api.order.dto.CartItemRequest;
+import com.wheats.api.order.dto.OrderRequest;
+import com.wheats.api.order.dto.OrderResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * 주문 생성 (OrderService.createOrder)
+ * - 메뉴 일괄 조회 + 금액 계산 + 포인트 차감 + 주문/아이템 INSERT + 장바구니 상태 변경
+ * - 주문하면 장바구니가 ORDERED가 되므로, 매 호출 전에 새 장바구니를 만든다 (측정에서 제외)
+ */
+@State(Scope.Benchmark)
+public class OrderServiceBenchmark {
+
+    private static final int ITEMS_PER_ORDER = 3;
+
+    private ConfigurableApplicationContext context;
+    private CartService cartService;
+    private OrderService orderService;
+    private OrderRequest orderRequest;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        cartService = context.getBean(CartService.class);
+        orderService = context.getBean(OrderService.class);
+    }
+
+    @Setup(Level.Invocation)
+    public void prepareCart() {
+        Long cartId = null;
+        for (long menuId = 1; menuId <= ITEMS_PER_ORDER; menuId++) {
+            CartItemRequest item = new CartItemRequest();
+            item.setStoreId(1L);
+            item.setMenuId(menuId);
+            item.setQuantity(2);
+            cartId = cartService.addItem(BenchmarkData.ORDER_USER_ID, item, true).getCartId();
+        }
+        orderRequest = new OrderRequest();
+        orderRequest.setCartId(cartId);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public OrderResponse createOrder() {
+        return orderService.createOrder(BenchmarkData.ORDER_USER_ID, orderRequest);
+    }
+}
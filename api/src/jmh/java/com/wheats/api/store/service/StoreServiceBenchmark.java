@@ -0,0 +1,68 @@
+package com.wheats.api.store.service;
+
+import com.wheats.api.benchmark.BenchmarkContext;
+import com.wheats.api.store.cache.CatalogSnapshot;
+import com.wheats.api.store.cache.EncodedResponse;
+import com.wheats.api.store.dto.StoreSort;
+import com.wheats.api.store.entity.MenuEntity;
+import com.wheats.api.store.entity.StoreEntity;
+import com.wheats.api.store.repository.MenuRepository;
+import com.wheats.api.store.repository.StoreRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+
+/**
+ * 가게/메뉴 DTO 변환 (StoreService.toStoreDto / toMenuItemDto) 과 카탈로그 응답
+ */
+@State(Scope.Benchmark)
+public class StoreServiceBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private StoreService storeService;
+    private List<StoreEntity> stores;
+    private List<MenuEntity> menus;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        storeService = BenchmarkContext.target(context, StoreService.class);
+        stores = context.getBean(StoreRepository.class).findAllByOrderByIdAsc();
+        menus = context.getBean(MenuRepository.class).findByIsAvailableTrueOrderByStoreIdAscIdAsc();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    /** 가게 전체 Entity → DTO */
+    @Benchmark
+    public void toStoreDto(Blackhole bh) {
+        for (StoreEntity store : stores) {
+            bh.consume(storeService.toStoreDto(store));
+        }
+    }
+
+    /** 메뉴 전체 Entity → DTO */
+    @Benchmark
+    public void toMenuItemDto(Blackhole bh) {
+        for (MenuEntity menu : menus) {
+            bh.consume(storeService.toMenuItemDto(menu));
+        }
+    }
+
+    /** 카탈로그 캐시 히트 시 첫 페이지 응답 (미리 인코딩된 바이트) */
+    @Benchmark
+    public EncodedResponse firstPageEncoded() {
+        CatalogSnapshot catalog = storeService.getCatalogSnapshot();
+        return storeService.getStorePageEncoded(catalog, StoreSort.RATING, null, null, 20);
+    }
+}
@@ -0,0 +1,134 @@
+package com.wheats.api.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 가상 사용자 시나리오 한 번: 둘러보기 → 가게 상세 → 장바구니 담기 → 장바구니 확인 → 주문 → 영수증 → 내 정보
+ *
+ * - 가게/메뉴는 응답에서 무작위로 고른다 (캐시가 한 가게에만 몰리지 않도록)
+ * - 한 단계라도 실패하면 해당 단계와 시나리오 전체를 오류로 기록하고 중단
+ */
+final class CheckoutScenario {
+
+    static final String[] STEPS = {
+            "browse", "storeDetail", "addToCart", "viewCart", "checkout", "receipt", "myPage", "scenario"
+    };
+
+    private static final int MAX_MENUS_PER_ORDER = 3;
+
+    private final HttpClient httpClient;
+    private final String baseUrl;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    CheckoutScenario(String baseUrl) {
+        this.baseUrl = baseUrl;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    /**
+     * @param userIndex 가상 사용자 번호 (토큰/이메일 결정)
+     * @param intendedStartNanos 일정표상 시나리오를 시작했어야 하는 시각 (System.nanoTime 기준)
+     */
+    void run(int userIndex, long intendedStartNanos, LatencyReport report) {
+        String token = OAuthStub.tokenFor(userIndex);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long startedAt = System.nanoTime();
+        try {
+            JsonNode page = call(report, "browse", intendedStartNanos,
+                    get("/api/stores?size=20&sort=rating", null));
+            JsonNode stores = page.get("items");
+            long storeId = stores.get(random.nextInt(stores.size())).get("id").asLong();
+
+            JsonNode detail = call(report, "storeDetail", 0, get("/api/stores/" + storeId, null));
+            JsonNode menus = detail.get("menus");
+            if (menus == null || menus.isEmpty()) {
+                report.recordError("storeDetail");
+                throw new StepFailedException();
+            }
+
+            long cartId = 0;
+            int menuCount = 1 + random.nextInt(Math.min(MAX_MENUS_PER_ORDER, menus.size()));
+            for (int i = 0; i < menuCount; i++) {
+                long menuId = menus.get(random.nextInt(menus.size())).get("id").asLong();
+                String body = "{\"storeId\": " + storeId + ", \"menuId\": " + menuId + ", \"quantity\": 1}";
+                // force=true: 이전 시나리오에서 남은 다른 가게 장바구니가 있어도 새로 시작
+                JsonNode cart = call(report, "addToCart", 0, post("/api/cart/items?force=true", token, body));
+                cartId = cart.get("cartId").asLong();
+            }
+
+            call(report, "viewCart", 0, get("/api/cart", token));
+            JsonNode order = call(report, "checkout", 0, post("/api/orders", token, "{\"cartId\": " + cartId + "}"));
+            call(report, "receipt", 0, get("/api/orders/" + order.get("orderId").asLong(), token));
+            call(report, "myPage", 0, get("/api/users/me", token));
+
+            long end = System.nanoTime();
+            report.recordSuccess("scenario", end - startedAt, end - intendedStartNanos);
+        } catch (StepFailedException e) {
+            report.recordError("scenario");
+        }
+    }
+
+    /**
+     * 요청 실행 + 지연 기록
+     * @param intendedStartNanos 0이 아니면 response time을 이 시각부터 잰다 (시나리오 첫 단계)
+     */
+    private JsonNode call(LatencyReport report, String step, long intendedStartNanos, HttpRequest request) {
+        long sentAt = System.nanoTime();
+        try {
+            HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            long end = System.nanoTime();
+            if (response.statusCode() / 100 != 2) {
+                report.recordError(step);
+                throw new StepFailedException();
+            }
+            report.recordSuccess(step, end - sentAt, end - (intendedStartNanos != 0 ? intendedStartNanos : sentAt));
+            byte[] body = response.body();
+            return body.length == 0 ? objectMapper.nullNode() : objectMapper.readTree(body);
+        } catch (IOException e) {
+            report.recordError(step);
+            throw new StepFailedException();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            report.recordError(step);
+            throw new StepFailedException();
+        }
+    }
+
+    private HttpRequest get(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .GET();
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder.build();
+    }
+
+    private HttpRequest post(String path, String token, String json) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Authorization", "Bearer " + token)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    /** 단계 실패 (이미 오류로 기록됨) → 시나리오 중단용 */
+    private static final class StepFailedException extends RuntimeException {
+        private StepFailedException() {
+            super(null, null, false, false);
+        }
+    }
+}
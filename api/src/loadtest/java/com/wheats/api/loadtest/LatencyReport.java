@@ -0,0 +1,115 @@
+package com.wheats.api.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 단계별 지연 집계 (HdrHistogram, 마이크로초)
+ *
+ * 두 가지 값을 따로 기록한다.
+ * - service time : 요청을 실제로 보낸 시각 → 응답 완료
+ * - response time: 요청을 "보냈어야 하는" 시각(일정표상 시작 시각) → 응답 완료
+ *   서버가 밀려서 클라이언트가 늦게 보낸 시간까지 포함하므로 coordinated omission이 보정된 값이다.
+ *   시나리오 안의 두 번째 단계부터는 앞 단계가 끝나자마자 보내므로 두 값이 같고,
+ *   차이는 시나리오 첫 단계와 시나리오 전체(scenario)에서 드러난다.
+ */
+final class LatencyReport {
+
+    private static final long MAX_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+
+    private final Map<String, Stat> stats = new LinkedHashMap<>();
+
+    LatencyReport(String... names) {
+        for (String name : names) {
+            stats.put(name, new Stat());
+        }
+    }
+
+    void recordSuccess(String name, long serviceNanos, long responseNanos) {
+        Stat stat = stats.get(name);
+        stat.serviceTime.recordValue(toMicros(serviceNanos));
+        stat.responseTime.recordValue(toMicros(responseNanos));
+    }
+
+    void recordError(String name) {
+        stats.get(name).errors.increment();
+    }
+
+    long totalCount() {
+        long total = 0;
+        for (Stat stat : stats.values()) {
+            total += stat.serviceTime.getTotalCount() + stat.errors.sum();
+        }
+        return total;
+    }
+
+    long totalErrors() {
+        long total = 0;
+        for (Stat stat : stats.values()) {
+            total += stat.errors.sum();
+        }
+        return total;
+    }
+
+    String format(double measuredSeconds) {
+        return format(measuredSeconds, stats.keySet().toArray(String[]::new));
+    }
+
+    /** 지정한 단계만 출력 (플랫폼/가상 스레드 비교 표 등) */
+    String format(double measuredSeconds, String... steps) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%-14s %8s %7s %9s | %-41s | %-41s%n", "step", "count", "errors", "req/s",
+                "service time ms (p50 / p95 / p99 / max)", "response time ms (p50 / p95 / p99 / max)"));
+        for (String step : steps) {
+            Stat stat = stats.get(step);
+            long count = stat.serviceTime.getTotalCount();
+            sb.append(String.format("%-14s %8d %7d %9.1f | %-41s | %-41s%n",
+                    step, count, stat.errors.sum(), count / measuredSeconds,
+                    percentiles(stat.serviceTime), percentiles(stat.responseTime)));
+        }
+        return sb.toString();
+    }
+
+    void write(Path dir, String header, double measuredSeconds) throws IOException {
+        Files.createDirectories(dir);
+        Files.writeString(dir.resolve("summary.txt"), header + System.lineSeparator() + format(measuredSeconds),
+                StandardCharsets.UTF_8);
+        // 단계별 전체 분포 (HdrHistogram percentile 출력 → HistogramLogAnalyzer 등으로 그래프화 가능)
+        for (Map.Entry<String, Stat> entry : stats.entrySet()) {
+            Path file = dir.resolve(entry.getKey() + "-response-time.hgrm");
+            try (var out = new java.io.PrintStream(Files.newOutputStream(file), false, StandardCharsets.UTF_8)) {
+                entry.getValue().responseTime.outputPercentileDistribution(out, 1000.0);
+            }
+        }
+    }
+
+    private static String percentiles(Histogram h) {
+        if (h.getTotalCount() == 0) {
+            return "-";
+        }
+        return String.format("%.1f / %.1f / %.1f / %.1f",
+                h.getValueAtPercentile(50) / 1000.0,
+                h.getValueAtPercentile(95) / 1000.0,
+                h.getValueAtPercentile(99) / 1000.0,
+                h.getMaxValue() / 1000.0);
+    }
+
+    private static long toMicros(long nanos) {
+        return Math.min(Math.max(TimeUnit.NANOSECONDS.toMicros(nanos), 0), MAX_TRACKABLE_MICROS);
+    }
+
+    private static final class Stat {
+        private final Histogram serviceTime = new ConcurrentHistogram(MAX_TRACKABLE_MICROS, 3);
+        private final Histogram responseTime = new ConcurrentHistogram(MAX_TRACKABLE_MICROS, 3);
+        private final LongAdder errors = new LongAdder();
+    }
+}
@@ -0,0 +1,105 @@
+package com.wheats.api.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 부하 테스트 설정 (명령행 인자 --key=value)
+ *
+ * --rate=50          초당 시나리오 시작 수 (open model: 응답이 느려져도 이 속도로 계속 시작)
+ * --duration=60      측정 시간(초)
+ * --warmup=10        워밍업 시간(초, 측정에서 제외)
+ * --users=200        가상 사용자 수 (각자 OAuth 토큰/장바구니를 가짐)
+ * --concurrency=200  동시에 실행할 수 있는 최대 시나리오 수 (클라이언트 스레드 수)
+ * --stub-delay-ms=5  OAuth /api/me 스텁 응답 지연 (실제 네트워크 왕복 흉내)
+ * --max-error-rate=0.01  오류율이 이보다 크면 종료 코드 1 (CI 실패 처리)
+ * --threads=platform API 요청 처리 스레드: platform(톰캣 워커 풀) / virtual(가상 스레드, Java 21) / both(순서대로 실행해 비교)
+ * --tomcat-threads=0 톰캣 워커 풀 크기 (server.tomcat.threads.max, 0이면 기본값 200 - 가상 스레드 모드에서는 무시됨)
+ * --db-pool-size=0   Hikari 풀 크기 (0이면 프로필 기본값: platform 10 / virtual 30) - 풀 크기 영향을 빼고 비교할 때 지정
+ * --short            CI용 짧은 실행 (rate=10, duration=10, warmup=2, users=50)
+ */
+final class LoadTestConfig {
+
+    double rate = 50;
+    Duration duration = Duration.ofSeconds(60);
+    Duration warmup = Duration.ofSeconds(10);
+    int users = 200;
+    int concurrency = 200;
+    long stubDelayMillis = 5;
+    double maxErrorRate = 0.01;
+    List<ThreadMode> threadModes = List.of(ThreadMode.PLATFORM);
+    int tomcatThreads = 0;
+    int dbPoolSize = 0;
+
+    Path dbDir = Path.of(System.getProperty("loadtest.db-dir", "../db"));
+    Path reportDir = Path.of(System.getProperty("loadtest.report-dir", "build/reports/loadtest"));
+
+    static LoadTestConfig parse(String[] args) {
+        LoadTestConfig config = new LoadTestConfig();
+        for (String arg : args) {
+            if (arg.equals("--short")) {
+                config.rate = 10;
+                config.duration = Duration.ofSeconds(10);
+                config.warmup = Duration.ofSeconds(2);
+                config.users = 50;
+                config.concurrency = 50;
+            }
+        }
+        // --short 뒤에 개별 값을 덮어쓸 수 있도록 두 번에 나눠 처리
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                continue;
+            }
+            String key = arg.substring(2, arg.indexOf('='));
+            String value = arg.substring(arg.indexOf('=') + 1);
+            switch (key) {
+                case "rate" -> config.rate = Double.parseDouble(value);
+                case "duration" -> config.duration = Duration.ofSeconds(Long.parseLong(value));
+                case "warmup" -> config.warmup = Duration.ofSeconds(Long.parseLong(value));
+                case "users" -> config.users = Integer.parseInt(value);
+                case "concurrency" -> config.concurrency = Integer.parseInt(value);
+                case "stub-delay-ms" -> config.stubDelayMillis = Long.parseLong(value);
+                case "max-error-rate" -> config.maxErrorRate = Double.parseDouble(value);
+                case "threads" -> config.threadModes = parseThreadModes(value);
+                case "tomcat-threads" -> config.tomcatThreads = Integer.parseInt(value);
+                case "db-pool-size" -> config.dbPoolSize = Integer.parseInt(value);
+                default -> throw new IllegalArgumentException("알 수 없는 옵션: " + arg);
+            }
+        }
+        if (config.threadModes.contains(ThreadMode.VIRTUAL) && Runtime.version().feature() < 21) {
+            throw new IllegalArgumentException("--threads=" + ThreadMode.VIRTUAL.label
+                    + " 는 Java 21 이상에서 실행해야 합니다 (./gradlew loadTest -PvirtualThreads)");
+        }
+        return config;
+    }
+
+    private static List<ThreadMode> parseThreadModes(String value) {
+        return switch (value) {
+            case "platform" -> List.of(ThreadMode.PLATFORM);
+            case "virtual" -> List.of(ThreadMode.VIRTUAL);
+            case "both" -> List.of(ThreadMode.PLATFORM, ThreadMode.VIRTUAL);
+            default -> throw new IllegalArgumentException("--threads 는 platform / virtual / both 중 하나: " + value);
+        };
+    }
+
+    @Override
+    public String toString() {
+        return String.format("rate=%.1f/s, duration=%ds, warmup=%ds, users=%d, concurrency=%d, stubDelay=%dms"
+                        + ", tomcatThreads=%s, dbPoolSize=%s",
+                rate, duration.toSeconds(), warmup.toSeconds(), users, concurrency, stubDelayMillis,
+                tomcatThreads > 0 ? tomcatThreads : "default", dbPoolSize > 0 ? dbPoolSize : "default");
+    }
+
+    /** API 요청 처리 스레드 종류 */
+    enum ThreadMode {
+        PLATFORM("platform"),
+        VIRTUAL("virtual");
+
+        final String label;
+
+        ThreadMode(String label) {
+            this.label = label;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.wheats.api.loadtest;
+
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 부하 테스트용 H2 DB 준비
+ *
+ * 1. db/schema.sql, db/init.sql 을 그대로 실행 (운영 MySQL과 같은 테이블/인덱스/시드 데이터)
+ *    - 스크립트 실행 동안만 H2 MySQL 모드를 켜고, 끝나면 REGULAR 모드로 되돌린다
+ *      (MySQL 모드는 INSERT마다 AUTO_INCREMENT 값을 따라 올리는데, 이 갱신이 동시 INSERT와 경합해
+ *       같은 id가 두 번 발급됨 → 부하 중 PRIMARY KEY 충돌)
+ *    - H2 MySQL 모드가 지원하지 않는 부분만 최소한으로 바꾼다
+ *      · CREATE DATABASE / USE 문 제거 (인메모리 DB 하나만 사용)
+ *      · NOW() - INTERVAL 2 DAY → NOW() - INTERVAL '2' DAY
+ *    - init.sql은 id를 직접 넣으므로 시드 후 모든 identity 컬럼을 (최대 id + 1)부터 다시 시작하게 맞춘다
+ * 2. 가상 사용자(loadtest-{n}@wheats.local)를 포인트 충분하게 추가
+ */
+final class LoadTestDatabase {
+
+    private LoadTestDatabase() {
+    }
+
+    static void seed(DataSource dataSource, Path dbDir, int users) throws IOException, SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            // SET MODE는 DB 전체에 적용됨 (풀의 다른 커넥션 포함)
+            setMode(connection, "MySQL");
+            try {
+                runScript(connection, dbDir.resolve("schema.sql"));
+                runScript(connection, dbDir.resolve("init.sql"));
+            } finally {
+                setMode(connection, "REGULAR");
+            }
+            restartIdentities(connection);
+        }
+
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < users; i++) {
+            rows.add(new Object[]{"부하테스트 " + i, OAuthStub.emailFor(i), "CONSUMER", Integer.MAX_VALUE});
+        }
+        new JdbcTemplate(dataSource).batchUpdate(
+                "INSERT INTO users (name, email, role, point) VALUES (?, ?, ?, ?)", rows);
+    }
+
+    private static void setMode(Connection connection, String mode) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SET MODE " + mode);
+        }
+    }
+
+    private static void restartIdentities(Connection connection) throws SQLException {
+        JdbcTemplate jdbc = new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+        List<Map<String, Object>> columns = jdbc.queryForList("SELECT table_name, column_name "
+                + "FROM information_schema.columns WHERE is_identity = 'YES' AND table_schema = SCHEMA()");
+        for (Map<String, Object> column : columns) {
+            String table = (String) column.get("table_name");
+            String name = (String) column.get("column_name");
+            Long max = jdbc.queryForObject("SELECT MAX(" + name + ") FROM " + table, Long.class);
+            jdbc.execute("ALTER TABLE " + table + " ALTER COLUMN " + name
+                    + " RESTART WITH " + ((max != null ? max : 0) + 1));
+        }
+    }
+
+    private static void runScript(Connection connection, Path script) throws IOException {
+        String sql = Files.readString(script, StandardCharsets.UTF_8)
+                .replaceAll("(?is)CREATE\\s+DATABASE[^;]*;", "")
+                .replaceAll("(?im)^\\s*USE\\s+\\w+\\s*;", "")
+                .replaceAll("(?i)INTERVAL\\s+(\\d+)\\s+(DAY|HOUR|MINUTE|SECOND)", "INTERVAL '$1' $2");
+        ScriptUtils.executeSqlScript(connection,
+                new ByteArrayResource(sql.getBytes(StandardCharsets.UTF_8), script.toString()));
+    }
+}
@@ -0,0 +1,134 @@
+package com.wheats.api.loadtest;
+
+import com.wheats.api.WhEatsApiApplication;
+import com.wheats.api.loadtest.LoadTestConfig.ThreadMode;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 부하 테스트 진입점 (./gradlew loadTest)
+ *
+ * 1. OAuth /api/me 스텁 실행
+ * 2. API 서버 실행 (loadtest 프로필: H2, 임의 포트, oauth.server.url=스텁)
+ *    --threads=virtual 이면 virtual 프로필(가상 스레드 + Hikari 풀 설정)을 추가
+ * 3. db/schema.sql, db/init.sql + 가상 사용자 시드
+ * 4. 고정 도착률로 시나리오 실행 → 단계별 지연 리포트 출력 + build/reports/loadtest 에 저장
+ * 5. 오류율이 --max-error-rate 보다 크면 종료 코드 1
+ *
+ * --threads=both 면 2~4를 플랫폼 스레드 → 가상 스레드 순서로 같은 JVM/같은 설정에서 반복하고
+ * (모드별 리포트는 build/reports/loadtest/{platform,virtual}), 처리량/지연 비교표를 comparison.txt 로 남긴다.
+ */
+public final class LoadTestMain {
+
+    /** 비교표에 넣을 단계 (주문 단계 + 시나리오 전체) */
+    private static final String[] COMPARED_STEPS = {"checkout", "scenario"};
+
+    private LoadTestMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.parse(args);
+        boolean compare = config.threadModes.size() > 1;
+        boolean passed = true;
+
+        try (OAuthStub oauthStub = new OAuthStub(config.stubDelayMillis)) {
+            StringBuilder comparison = new StringBuilder(config + System.lineSeparator());
+            for (ThreadMode mode : config.threadModes) {
+                Path reportDir = compare ? config.reportDir.resolve(mode.label) : config.reportDir;
+                RunResult result = run(config, mode, oauthStub, reportDir);
+                passed &= result.errorRate <= config.maxErrorRate;
+                comparison.append(System.lineSeparator()).append(result.modeLine).append(System.lineSeparator())
+                        .append(result.report.format(result.measuredSeconds, COMPARED_STEPS));
+            }
+
+            if (compare) {
+                System.out.println();
+                System.out.println("===== 플랫폼 스레드 vs 가상 스레드 =====");
+                System.out.print(comparison);
+                Files.createDirectories(config.reportDir);
+                Files.writeString(config.reportDir.resolve("comparison.txt"), comparison, StandardCharsets.UTF_8);
+                System.out.println("비교표: " + config.reportDir.resolve("comparison.txt").toAbsolutePath());
+            }
+        }
+        System.exit(passed ? 0 : 1);
+    }
+
+    private static RunResult run(LoadTestConfig config, ThreadMode mode, OAuthStub oauthStub, Path reportDir)
+            throws Exception {
+        try (ConfigurableApplicationContext api = startApi(config, mode, oauthStub)) {
+            LoadTestDatabase.seed(api.getBean(DataSource.class), config.dbDir, config.users);
+            int port = ((WebServerApplicationContext) api).getWebServer().getPort();
+
+            System.out.println("부하 테스트 시작 (threads=" + mode.label + "): " + config);
+            CheckoutScenario scenario = new CheckoutScenario("http://127.0.0.1:" + port);
+            LatencyReport warmupReport = new LatencyReport(CheckoutScenario.STEPS);
+            LatencyReport report = new LatencyReport(CheckoutScenario.STEPS);
+            new OpenLoopDriver(config, scenario).run(warmupReport, report);
+
+            double measuredSeconds = config.duration.toMillis() / 1000.0;
+            long total = report.totalCount();
+            double errorRate = total == 0 ? 1.0 : (double) report.totalErrors() / total;
+            String modeLine = String.format("threads=%s (Java %d), DB 커넥션 풀=%s, 오류율: %.2f%% (허용 %.2f%%)",
+                    mode.label, Runtime.version().feature(),
+                    api.getEnvironment().getProperty("spring.datasource.hikari.maximum-pool-size", "10"),
+                    errorRate * 100, config.maxErrorRate * 100);
+            String header = config + System.lineSeparator() + modeLine;
+
+            System.out.println(header);
+            System.out.print(report.format(measuredSeconds));
+            report.write(reportDir, header, measuredSeconds);
+            System.out.println("리포트: " + reportDir.toAbsolutePath());
+
+            return new RunResult(modeLine, report, measuredSeconds, errorRate);
+        }
+    }
+
+    private static ConfigurableApplicationContext startApi(LoadTestConfig config, ThreadMode mode,
+                                                           OAuthStub oauthStub) {
+        List<String> profiles = new ArrayList<>(List.of("loadtest"));
+        if (mode == ThreadMode.VIRTUAL) {
+            profiles.add("virtual");
+        }
+        // 명령행 인자로 전달 (builder.properties()는 기본값이라 application.yml / 프로필 yml 값에 밀림)
+        List<String> properties = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--oauth.server.url=" + oauthStub.baseUrl(),
+                "--oauth.verification.mode=remote",
+                // 같은 JVM에서 다시 띄울 때 이전 실행의 H2 데이터(주문/포인트)를 이어받지 않도록
+                "--loadtest.db-name=wheats-loadtest-" + mode.label));
+        if (config.tomcatThreads > 0) {
+            properties.add("--server.tomcat.threads.max=" + config.tomcatThreads);
+        }
+        if (config.dbPoolSize > 0) {
+            properties.add("--spring.datasource.hikari.maximum-pool-size=" + config.dbPoolSize);
+            properties.add("--spring.datasource.hikari.minimum-idle=" + config.dbPoolSize);
+        }
+        return new SpringApplicationBuilder(WhEatsApiApplication.class)
+                .profiles(profiles.toArray(String[]::new))
+                .logStartupInfo(false)
+                .run(properties.toArray(String[]::new));
+    }
+
+    /** 모드 한 번 실행 결과 */
+    private static final class RunResult {
+        private final String modeLine;
+        private final LatencyReport report;
+        private final double measuredSeconds;
+        private final double errorRate;
+
+        private RunResult(String modeLine, LatencyReport report, double measuredSeconds, double errorRate) {
+            this.modeLine = modeLine;
+            this.report = report;
+            this.measuredSeconds = measuredSeconds;
+            this.errorRate = errorRate;
+        }
+    }
+}
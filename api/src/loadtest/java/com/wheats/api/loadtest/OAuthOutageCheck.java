@@ -0,0 +1,246 @@
+package com.wheats.api.loadtest;
+
+import com.wheats.api.WhEatsApiApplication;
+import com.wheats.api.auth.verifier.IntrospectionCircuitBreaker;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.sql.DataSource;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * OAuth 서버 장애 시나리오 점검 (./gradlew oauthOutageCheck)
+ *
+ * 톰캣 워커 수를 작게(TOMCAT_THREADS) 잡은 API를 띄우고, OAuth /api/me 스텁을 장애 상태로 바꾼 뒤
+ * 인증이 필요한 요청을 워커 수보다 훨씬 많이 동시에 보낸다. 그동안 공개 API(/api/stores)를 계속 호출해서
+ * 워커가 OAuth 호출에 묶이지 않고 응답하는지 확인한다.
+ *
+ * 1. HANG : 인증 요청은 read-timeout 안에 503, 회로가 열리고, 공개 API 지연은 상한 이내
+ * 2. FAIL : 5xx 응답도 503, TTL이 지난 캐시 검증 결과가 있는 토큰은 그대로 통과 (stale 대체)
+ * 3. 복구 : open-seconds 이후 시험 호출이 성공하면 회로가 닫히고 새 토큰도 200
+ *
+ * 하나라도 어긋나면 종료 코드 1
+ */
+public final class OAuthOutageCheck {
+
+    private static final int TOMCAT_THREADS = 8;
+    private static final int CONCURRENT_AUTH_REQUESTS = 64;
+    private static final long READ_TIMEOUT_MS = 1000;
+    private static final long OPEN_SECONDS = 3;
+    /** 장애 전에 검증 결과를 캐시해 두는 사용자 (stale 대체 확인용) */
+    private static final int CACHED_USER = 0;
+
+    /** 공개 API 응답 시간 상한: OAuth 호출 1건이 워커를 잡고 있을 수 있는 최대 시간 + 여유 */
+    private static final Duration PUBLIC_LATENCY_LIMIT = Duration.ofMillis(READ_TIMEOUT_MS + 1500);
+    /** 인증 요청 응답 시간 상한 (OAuth 서버가 멈춰 있어도 이 안에 503) */
+    private static final Duration AUTH_LATENCY_LIMIT = Duration.ofMillis(READ_TIMEOUT_MS * 3);
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final String baseUrl;
+    private final List<String> failures = new ArrayList<>();
+
+    private OAuthOutageCheck(String baseUrl) {
+        this.baseUrl = baseUrl;
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.parse(args);
+        List<String> failures;
+
+        try (OAuthStub oauthStub = new OAuthStub(0);
+             ConfigurableApplicationContext api = startApi(oauthStub)) {
+
+            LoadTestDatabase.seed(api.getBean(DataSource.class), config.dbDir, CONCURRENT_AUTH_REQUESTS + 3);
+            int port = ((WebServerApplicationContext) api).getWebServer().getPort();
+            IntrospectionCircuitBreaker circuitBreaker = api.getBean(IntrospectionCircuitBreaker.class);
+
+            OAuthOutageCheck check = new OAuthOutageCheck("http://127.0.0.1:" + port);
+            check.run(oauthStub, circuitBreaker);
+            failures = check.failures;
+        }
+
+        if (failures.isEmpty()) {
+            System.out.println("OAuth 장애 점검 통과");
+            System.exit(0);
+        }
+        System.out.println("OAuth 장애 점검 실패:");
+        failures.forEach(f -> System.out.println("  - " + f));
+        System.exit(1);
+    }
+
+    private void run(OAuthStub oauthStub, IntrospectionCircuitBreaker circuitBreaker) throws Exception {
+        // 정상일 때 한 번 검증해서 캐시에 넣어 둠 (TTL 1초 → 장애 때는 stale 결과만 남음)
+        expectStatus("정상 상태 인증", authGet(CACHED_USER), 200);
+        Thread.sleep(1500);
+
+        // 1. HANG
+        oauthStub.setFault(OAuthStub.Fault.HANG);
+        System.out.println("[HANG] 인증 요청 " + CONCURRENT_AUTH_REQUESTS + "건 동시 전송 (톰캣 워커 " + TOMCAT_THREADS + "개)");
+        burst(1);
+        expect(circuitBreaker.getState() == IntrospectionCircuitBreaker.State.OPEN,
+                "[HANG] 회로가 열리지 않음: state=" + circuitBreaker.getState());
+
+        // 2. FAIL (5xx)
+        oauthStub.setFault(OAuthStub.Fault.FAIL);
+        Thread.sleep(OPEN_SECONDS * 1000 + 200);
+        expectStatus("[FAIL] 새 토큰", authGet(CONCURRENT_AUTH_REQUESTS + 1), 503);
+        expectStatus("[FAIL] 캐시된 토큰 (stale 대체)", authGet(CACHED_USER), 200);
+
+        // 3. 복구
+        oauthStub.setFault(OAuthStub.Fault.NONE);
+        Thread.sleep(OPEN_SECONDS * 1000 + 200);
+        expectStatus("[복구] 새 토큰", authGet(CONCURRENT_AUTH_REQUESTS + 2), 200);
+        expect(circuitBreaker.getState() == IntrospectionCircuitBreaker.State.CLOSED,
+                "[복구] 회로가 닫히지 않음: state=" + circuitBreaker.getState());
+    }
+
+    /**
+     * 인증 요청을 동시에 보내면서 공개 API를 계속 호출
+     */
+    private void burst(int firstUser) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_AUTH_REQUESTS);
+        try {
+            List<Future<Timed>> authCalls = new ArrayList<>();
+            for (int i = 0; i < CONCURRENT_AUTH_REQUESTS; i++) {
+                int user = firstUser + i;
+                authCalls.add(executor.submit(() -> timed(authGet(user))));
+            }
+
+            long maxPublicNanos = 0;
+            int publicErrors = 0;
+            long until = System.nanoTime() + Duration.ofMillis(READ_TIMEOUT_MS * 2).toNanos();
+            while (System.nanoTime() < until) {
+                Timed probe = timed(publicGet());
+                maxPublicNanos = Math.max(maxPublicNanos, probe.nanos);
+                if (probe.status != 200) {
+                    publicErrors++;
+                }
+            }
+
+            long maxAuthNanos = 0;
+            int unavailable = 0;
+            for (Future<Timed> call : authCalls) {
+                Timed result = call.get();
+                maxAuthNanos = Math.max(maxAuthNanos, result.nanos);
+                if (result.status == 503) {
+                    unavailable++;
+                }
+            }
+
+            System.out.printf("  공개 API 최대 지연 %dms (상한 %dms), 오류 %d건%n",
+                    maxPublicNanos / 1_000_000, PUBLIC_LATENCY_LIMIT.toMillis(), publicErrors);
+            System.out.printf("  인증 요청 최대 지연 %dms (상한 %dms), 503 %d/%d건%n",
+                    maxAuthNanos / 1_000_000, AUTH_LATENCY_LIMIT.toMillis(), unavailable, CONCURRENT_AUTH_REQUESTS);
+
+            expect(publicErrors == 0, "[HANG] 공개 API 오류 " + publicErrors + "건");
+            expect(maxPublicNanos <= PUBLIC_LATENCY_LIMIT.toNanos(),
+                    "[HANG] 공개 API 지연 " + maxPublicNanos / 1_000_000 + "ms (워커 고갈)");
+            expect(maxAuthNanos <= AUTH_LATENCY_LIMIT.toNanos(),
+                    "[HANG] 인증 요청 지연 " + maxAuthNanos / 1_000_000 + "ms (타임아웃 미적용)");
+            expect(unavailable == CONCURRENT_AUTH_REQUESTS,
+                    "[HANG] 503이 아닌 응답 " + (CONCURRENT_AUTH_REQUESTS - unavailable) + "건");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private HttpRequest authGet(int userIndex) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/api/users/me"))
+                .timeout(Duration.ofSeconds(10))
+                .header("Authorization", "Bearer " + OAuthStub.tokenFor(userIndex))
+                .GET()
+                .build();
+    }
+
+    private HttpRequest publicGet() {
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/api/stores?size=20"))
+                .timeout(Duration.ofSeconds(10))
+                .GET()
+                .build();
+    }
+
+    private Timed timed(HttpRequest request) {
+        long start = System.nanoTime();
+        int status;
+        try {
+            status = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (Exception e) {
+            // 클라이언트 타임아웃 = 서버가 응답하지 못함
+            status = -1;
+        }
+        return new Timed(status, System.nanoTime() - start);
+    }
+
+    private void expectStatus(String name, HttpRequest request, int expected) {
+        Timed result = timed(request);
+        System.out.printf("%s: %d (%dms)%n", name, result.status, result.nanos / 1_000_000);
+        expect(result.status == expected, name + ": 기대 " + expected + ", 실제 " + result.status);
+    }
+
+    private void expect(boolean condition, String failure) {
+        if (!condition) {
+            failures.add(failure);
+        }
+    }
+
+    private static ConfigurableApplicationContext startApi(OAuthStub oauthStub) {
+        // 명령행 인자로 전달 (builder.properties()는 기본값이라 application.yml 값에 밀림)
+        String[] overrides = {
+                "--server.port=0",
+                "--server.tomcat.threads.max=" + TOMCAT_THREADS,
+                "--server.tomcat.threads.min-spare=" + TOMCAT_THREADS,
+                "--oauth.server.url=" + oauthStub.baseUrl(),
+                "--oauth.verification.mode=remote",
+                "--oauth.introspection.cache.ttl-seconds=1",
+                "--oauth.introspection.client.read-timeout-ms=" + READ_TIMEOUT_MS,
+                "--oauth.introspection.circuit-breaker.failure-threshold=5",
+                "--oauth.introspection.circuit-breaker.open-seconds=" + OPEN_SECONDS};
+        ConfigurableApplicationContext api = new SpringApplicationBuilder(WhEatsApiApplication.class)
+                .profiles("loadtest")
+                .logStartupInfo(false)
+                .run(overrides);
+        verifyOverrides(api, overrides);
+        return api;
+    }
+
+    /**
+     * 점검 조건(워커 수, TTL, 타임아웃, 회로 설정)이 실제로 적용됐는지 확인
+     * - 설정 파일 값에 밀려 무시되면 장애 시나리오가 의도와 다른 조건에서 통과할 수 있으므로 바로 중단
+     */
+    private static void verifyOverrides(ConfigurableApplicationContext api, String[] overrides) {
+        for (String override : overrides) {
+            int separator = override.indexOf('=');
+            String key = override.substring(2, separator);
+            String expected = override.substring(separator + 1);
+            String actual = api.getEnvironment().getProperty(key);
+            if (!expected.equals(actual)) {
+                api.close();
+                throw new IllegalStateException("점검 설정이 적용되지 않음: " + key + "=" + actual
+                        + " (기대값 " + expected + ")");
+            }
+        }
+    }
+
+    private static final class Timed {
+        private final int status;
+        private final long nanos;
+
+        private Timed(int status, long nanos) {
+            this.status = status;
+            this.nanos = nanos;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.wheats.api.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Flask OAuth 서버의 /api/me 를 흉내 내는 JVM 내부 스텁
+ *
+ * - Authorization: Bearer lt-token-{n} → { "email": "loadtest-{n}@wheats.local", "expires_at": ... }
+ * - 그 외 토큰 → 401 { "error": "invalid_token" }
+ * - delayMillis 만큼 응답을 늦춰 실제 OAuth 서버까지의 왕복 시간을 흉내 낸다
+ * - setFault()로 장애 흉내: HANG(응답 없이 오래 대기) / FAIL(503)
+ */
+final class OAuthStub implements AutoCloseable {
+
+    static final String TOKEN_PREFIX = "lt-token-";
+
+    /** OAuth 서버 장애 흉내 */
+    enum Fault { NONE, HANG, FAIL }
+
+    private static final long HANG_MILLIS = 60_000;
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final long delayMillis;
+    private volatile Fault fault = Fault.NONE;
+
+    OAuthStub(long delayMillis) throws IOException {
+        this.delayMillis = delayMillis;
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        this.executor = Executors.newCachedThreadPool();
+        server.setExecutor(executor);
+        server.createContext("/api/me", this::handleMe);
+        server.start();
+    }
+
+    static String tokenFor(int userIndex) {
+        return TOKEN_PREFIX + userIndex;
+    }
+
+    static String emailFor(int userIndex) {
+        return "loadtest-" + userIndex + "@wheats.local";
+    }
+
+    void setFault(Fault fault) {
+        this.fault = fault;
+    }
+
+    String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    private void handleMe(HttpExchange exchange) throws IOException {
+        try {
+            Fault current = fault;
+            if (current == Fault.HANG) {
+                Thread.sleep(HANG_MILLIS);
+            }
+            if (current == Fault.FAIL) {
+                write(exchange, 503, "{\"error\": \"temporarily_unavailable\"}");
+                return;
+            }
+            if (delayMillis > 0) {
+                Thread.sleep(delayMillis);
+            }
+            String auth = exchange.getRequestHeaders().getFirst("Authorization");
+            String token = (auth != null && auth.startsWith("Bearer ")) ? auth.substring(7) : null;
+
+            if (token == null || !token.startsWith(TOKEN_PREFIX)) {
+                write(exchange, 401, "{\"error\": \"invalid_token\", \"error_description\": \"unknown token\"}");
+                return;
+            }
+            String userIndex = token.substring(TOKEN_PREFIX.length());
+            long expiresAt = Instant.now().plusSeconds(3600).getEpochSecond();
+            write(exchange, 200, "{\"email\": \"loadtest-" + userIndex + "@wheats.local\", "
+                    + "\"expires_at\": " + expiresAt + "}");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static void write(HttpExchange exchange, int status, String json) throws IOException {
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
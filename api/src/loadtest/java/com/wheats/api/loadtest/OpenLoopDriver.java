@@ -0,0 +1,74 @@
+package com.wheats.api.loadtest;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 고정 도착률(open model) 부하 발생기
+ *
+ * - 시나리오 시작 시각을 미리 정해 둔 일정표(start + i × 간격)대로 시작시킨다
+ * - 서버가 느려져도 다음 시나리오를 늦추지 않는다 → 밀린 시간은 response time에 그대로 반영됨
+ *   (응답을 기다렸다가 다음 요청을 보내는 closed model은 느린 구간의 표본을 빠뜨린다: coordinated omission)
+ * - 워밍업 구간에 시작한 시나리오는 별도 리포트에 기록하고 버린다
+ */
+final class OpenLoopDriver {
+
+    private final LoadTestConfig config;
+    private final CheckoutScenario scenario;
+
+    OpenLoopDriver(LoadTestConfig config, CheckoutScenario scenario) {
+        this.config = config;
+        this.scenario = scenario;
+    }
+
+    void run(LatencyReport warmupReport, LatencyReport report) throws InterruptedException {
+        ExecutorService workers = Executors.newFixedThreadPool(config.concurrency);
+
+        // 같은 사용자의 시나리오가 겹치면 장바구니를 서로 주문해 버리므로, 쉬고 있는 사용자만 배정
+        BlockingQueue<Integer> idleUsers = new ArrayBlockingQueue<>(config.users);
+        for (int i = 0; i < config.users; i++) {
+            idleUsers.add(i);
+        }
+
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / config.rate);
+        long start = System.nanoTime();
+        long measureFrom = start + config.warmup.toNanos();
+        long end = measureFrom + config.duration.toNanos();
+
+        for (long i = 0; ; i++) {
+            long intendedStart = start + i * intervalNanos;
+            if (intendedStart >= end) {
+                break;
+            }
+            long wait;
+            while ((wait = intendedStart - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            LatencyReport target = intendedStart < measureFrom ? warmupReport : report;
+            workers.execute(() -> {
+                Integer user;
+                try {
+                    user = idleUsers.take();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                try {
+                    scenario.run(user, intendedStart, target);
+                } finally {
+                    idleUsers.add(user);
+                }
+            });
+        }
+
+        workers.shutdown();
+        if (!workers.awaitTermination(2, TimeUnit.MINUTES)) {
+            workers.shutdownNow();
+        }
+    }
+}
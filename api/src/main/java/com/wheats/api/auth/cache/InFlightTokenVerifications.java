@@ -0,0 +1,143 @@
+package com.wheats.api.auth.cache;
+
+import com.wheats.api.auth.dto.AuthenticatedUser;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 같은 토큰에 대한 동시 검증 합치기 (single-flight)
+ *
+ * 앱은 화면 진입 시 가게 상세/장바구니/마이페이지를 병렬로 호출하므로, 캐시 미스 순간에는
+ * 같은 토큰으로 /api/me 호출 + users 조회가 여러 번 겹친다.
+ * 토큰별로 진행 중인 검증을 하나만 두고, 뒤따라온 요청은 그 결과(또는 예외)를 그대로 받는다.
+ *
+ * - 키: Access Token의 SHA-256 해시 (TokenIntrospectionCache와 동일)
+ * - 진행 중인 검증은 ConcurrentHashMap<키, CompletableFuture>로 관리 (lock 없음)
+ * - 결과를 캐시에 넣는 작업까지 검증 안에서 끝낸 뒤 future를 완료하고 맵에서 제거한다.
+ *   → 제거 이후에 도착한 요청은 캐시 히트가 되므로 중복 호출 구간이 생기지 않음
+ */
+@Component
+public class InFlightTokenVerifications {
+
+    private final ConcurrentHashMap<String, CompletableFuture<Optional<AuthenticatedUser>>> inFlight =
+            new ConcurrentHashMap<>();
+
+    private final LongAdder verificationCount = new LongAdder();
+    private final LongAdder coalescedCount = new LongAdder();
+
+    /**
+     * 같은 토큰의 검증이 진행 중이면 그 결과를 기다리고, 없으면 직접 검증
+     * @param accessToken Access Token (Bearer 접두사 없이)
+     * @param verification 실제 검증 (OAuth 서버 호출 + users 조회 + 캐시 저장)
+     * @return 검증 결과 (검증 중 발생한 RuntimeException은 기다리던 요청에도 그대로 전달)
+     */
+    public Optional<AuthenticatedUser> verify(String accessToken,
+                                              Supplier<Optional<AuthenticatedUser>> verification) {
+        if (accessToken == null) {
+            return verification.get();
+        }
+        String key = TokenIntrospectionCache.hashToken(accessToken);
+        CompletableFuture<Optional<AuthenticatedUser>> mine = new CompletableFuture<>();
+        CompletableFuture<Optional<AuthenticatedUser>> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            coalescedCount.increment();
+            return await(running);
+        }
+
+        verificationCount.increment();
+        try {
+            Optional<AuthenticatedUser> result = verification.get();
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /**
+     * verify()의 비동기 버전 - 같은 토큰의 검증이 진행 중이면 그 future를, 없으면 새로 시작한 검증의 future를 반환
+     * (verify()와 같은 맵을 쓰므로 동기/비동기 호출끼리도 합쳐진다)
+     * @param accessToken Access Token (Bearer 접두사 없이)
+     * @param verification 실제 검증을 시작하고 future를 반환 (캐시 저장까지 끝나야 완료)
+     */
+    public CompletableFuture<Optional<AuthenticatedUser>> verifyAsync(
+            String accessToken, Supplier<CompletableFuture<Optional<AuthenticatedUser>>> verification) {
+        if (accessToken == null) {
+            return verification.get();
+        }
+        String key = TokenIntrospectionCache.hashToken(accessToken);
+        CompletableFuture<Optional<AuthenticatedUser>> mine = new CompletableFuture<>();
+        CompletableFuture<Optional<AuthenticatedUser>> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            coalescedCount.increment();
+            return running;
+        }
+
+        verificationCount.increment();
+        CompletableFuture<Optional<AuthenticatedUser>> started;
+        try {
+            started = verification.get();
+        } catch (RuntimeException e) {
+            started = CompletableFuture.failedFuture(e);
+        }
+        started.whenComplete((result, error) -> {
+            // 완료 후 제거 (verify()와 같은 순서)
+            if (error != null) {
+                mine.completeExceptionally(unwrap(error));
+            } else {
+                mine.complete(result);
+            }
+            inFlight.remove(key, mine);
+        });
+        return mine;
+    }
+
+    /**
+     * 진행 중인 검증 결과 대기 (OAuth 호출 타임아웃/회로 차단기로 대기 시간이 제한됨)
+     */
+    private static Optional<AuthenticatedUser> await(CompletableFuture<Optional<AuthenticatedUser>> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    /** CompletableFuture 체인이 감싼 CompletionException 벗기기 */
+    private static Throwable unwrap(Throwable error) {
+        return (error instanceof CompletionException && error.getCause() != null) ? error.getCause() : error;
+    }
+
+    // ===== 통계 (중복 검증을 얼마나 줄였는지 확인용) =====
+
+    /** 실제로 실행한 검증 수 */
+    public long getVerificationCount() {
+        return verificationCount.sum();
+    }
+
+    /** 진행 중인 검증 결과를 받아 생략한 검증 수 (= 줄인 /api/me 호출 + users 조회 수) */
+    public long getCoalescedCount() {
+        return coalescedCount.sum();
+    }
+
+    /** 현재 진행 중인 검증 수 */
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+}
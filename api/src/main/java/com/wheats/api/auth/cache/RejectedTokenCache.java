@@ -0,0 +1,129 @@
+package com.wheats.api.auth.cache;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 거절된 토큰 캐시 (negative cache)
+ *
+ * 만료/폐기된 토큰으로 클라이언트가 재시도할 때마다 OAuth 서버 /api/me 호출이 생기고,
+ * OAuth 서버는 401마다 토큰 테이블을 다시 뒤진다. 한 번 거절된 토큰은 짧은 시간 동안 기억해 두고
+ * AuthInterceptor에서 네트워크/DB 호출 없이 바로 401로 응답한다.
+ *
+ * - 키: Access Token의 SHA-256 해시 (TokenIntrospectionCache와 동일)
+ * - 만료: 설정 TTL (짧게 유지 - 일시적인 이유로 거절된 토큰도 곧 다시 검증되도록)
+ * - 용량 초과 시 가장 오래 사용되지 않은 항목부터 제거 (LRU) → 임의 토큰을 계속 보내도 메모리는 max-size까지만
+ */
+@Component
+public class RejectedTokenCache {
+
+    private final int maxSize;
+    private final Duration ttl;
+    private final Clock clock;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<String, Instant> entries;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    @Autowired
+    public RejectedTokenCache(@Value("${oauth.introspection.negative-cache.max-size:10000}") int maxSize,
+                              @Value("${oauth.introspection.negative-cache.ttl-seconds:30}") long ttlSeconds) {
+        this(maxSize, Duration.ofSeconds(ttlSeconds), Clock.systemUTC());
+    }
+
+    RejectedTokenCache(int maxSize, Duration ttl, Clock clock) {
+        this.maxSize = maxSize;
+        this.ttl = ttl;
+        this.clock = clock;
+        // accessOrder=true → get() 시 순서가 갱신되어 LRU로 동작
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Instant> eldest) {
+                if (size() > RejectedTokenCache.this.maxSize) {
+                    evictionCount.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * 최근에 거절된 토큰인지 확인
+     * @param accessToken Access Token (Bearer 접두사 없이)
+     */
+    public boolean isRejected(String accessToken) {
+        if (accessToken == null || maxSize <= 0) {
+            return false;
+        }
+        String key = TokenIntrospectionCache.hashToken(accessToken);
+        Instant now = clock.instant();
+
+        lock.lock();
+        try {
+            Instant expiresAt = entries.get(key);
+            if (expiresAt == null) {
+                return false;
+            }
+            if (!expiresAt.isAfter(now)) {
+                entries.remove(key);
+                return false;
+            }
+            hitCount.increment();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 거절된 토큰 기록 (TTL 동안 검증 없이 401)
+     * @param accessToken Access Token (Bearer 접두사 없이)
+     */
+    public void reject(String accessToken) {
+        if (accessToken == null || maxSize <= 0) {
+            return;
+        }
+        String key = TokenIntrospectionCache.hashToken(accessToken);
+        Instant expiresAt = clock.instant().plus(ttl);
+
+        lock.lock();
+        try {
+            entries.put(key, expiresAt);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // ===== 통계 =====
+
+    /** OAuth 서버 호출 없이 401로 응답한 수 */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /** 용량 초과로 제거된 항목 수 */
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+}
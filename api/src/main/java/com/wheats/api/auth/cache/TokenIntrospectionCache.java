@@ -0,0 +1,260 @@
+package com.wheats.api.auth.cache;
+
+import com.wheats.api.auth.dto.AuthenticatedUser;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * OAuth 토큰 검증 결과 캐시
+ *
+ * - 키: Access Token의 SHA-256 해시 (원본 토큰은 메모리에 보관하지 않음)
+ * - 값: 검증된 사용자 (userId, role)
+ * - 만료: min(설정 TTL, 토큰 만료 시각)
+ * - 용량 초과 시 가장 오래 사용되지 않은 항목부터 제거 (LRU)
+ *
+ * 캐시 히트 시 OAuth 서버 /api/me 호출과 users 조회를 모두 생략한다.
+ *
+ * TTL이 지난 항목도 stale-grace 동안은 (토큰 만료 시각을 넘지 않는 범위에서) 남겨 두고,
+ * OAuth 서버 장애 시에만 getStale()로 이전 검증 결과를 내준다. (0이면 사용 안 함)
+ */
+@Component
+public class TokenIntrospectionCache {
+
+    private final int maxSize;
+    private final Duration ttl;
+    private final Duration staleGrace;
+    private final Clock clock;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<String, Entry> entries;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    private final LongAdder expiredCount = new LongAdder();
+    private final LongAdder staleHitCount = new LongAdder();
+
+    @Autowired
+    public TokenIntrospectionCache(@Value("${oauth.introspection.cache.max-size:10000}") int maxSize,
+                                   @Value("${oauth.introspection.cache.ttl-seconds:300}") long ttlSeconds,
+                                   @Value("${oauth.introspection.cache.stale-grace-seconds:600}") long staleGraceSeconds) {
+        this(maxSize, Duration.ofSeconds(ttlSeconds), Duration.ofSeconds(staleGraceSeconds), Clock.systemUTC());
+    }
+
+    TokenIntrospectionCache(int maxSize, Duration ttl, Duration staleGrace, Clock clock) {
+        this.maxSize = maxSize;
+        this.ttl = ttl;
+        this.staleGrace = staleGrace;
+        this.clock = clock;
+        // accessOrder=true → get() 시 순서가 갱신되어 LRU로 동작
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if (size() > TokenIntrospectionCache.this.maxSize) {
+                    evictionCount.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * 캐시된 검증 결과 조회
+     * @param accessToken Access Token (Bearer 접두사 없이)
+     * @return 만료되지 않은 캐시 항목이 있으면 사용자 정보
+     */
+    public Optional<AuthenticatedUser> get(String accessToken) {
+        if (accessToken == null || maxSize <= 0) {
+            return Optional.empty();
+        }
+        String key = hashToken(accessToken);
+        Instant now = clock.instant();
+
+        lock.lock();
+        try {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                missCount.increment();
+                return Optional.empty();
+            }
+            if (!entry.expiresAt.isAfter(now)) {
+                // 유예 시간까지 지났을 때만 제거 (그 전까지는 장애 시 getStale() 용도로 보관)
+                if (!entry.staleUntil.isAfter(now)) {
+                    entries.remove(key);
+                }
+                expiredCount.increment();
+                missCount.increment();
+                return Optional.empty();
+            }
+            hitCount.increment();
+            return Optional.of(entry.user);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * OAuth 서버 장애 시 사용할 이전 검증 결과 조회 (TTL이 지났어도 유예 시간 + 토큰 만료 전이면 반환)
+     * @param accessToken Access Token (Bearer 접두사 없이)
+     */
+    public Optional<AuthenticatedUser> getStale(String accessToken) {
+        if (accessToken == null || maxSize <= 0) {
+            return Optional.empty();
+        }
+        String key = hashToken(accessToken);
+        Instant now = clock.instant();
+
+        lock.lock();
+        try {
+            Entry entry = entries.get(key);
+            if (entry == null || !entry.staleUntil.isAfter(now)) {
+                return Optional.empty();
+            }
+            staleHitCount.increment();
+            return Optional.of(entry.user);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 검증 결과 저장
+     * @param accessToken Access Token (Bearer 접두사 없이)
+     * @param user 검증된 사용자
+     * @param tokenExpiresAt 토큰 만료 시각 (모르면 null → 설정 TTL만 적용)
+     */
+    public void put(String accessToken, AuthenticatedUser user, Instant tokenExpiresAt) {
+        if (accessToken == null || user == null || maxSize <= 0) {
+            return;
+        }
+        Instant now = clock.instant();
+        Instant expiresAt = now.plus(ttl);
+        if (tokenExpiresAt != null && tokenExpiresAt.isBefore(expiresAt)) {
+            expiresAt = tokenExpiresAt;
+        }
+        if (!expiresAt.isAfter(now)) {
+            // 이미 만료된 토큰은 저장하지 않음
+            return;
+        }
+
+        // 장애 대비 보관 기한: TTL + 유예 시간, 단 토큰 만료 시각은 넘지 않음
+        Instant staleUntil = expiresAt.plus(staleGrace);
+        if (tokenExpiresAt != null && tokenExpiresAt.isBefore(staleUntil)) {
+            staleUntil = tokenExpiresAt;
+        }
+
+        String key = hashToken(accessToken);
+        lock.lock();
+        try {
+            entries.put(key, new Entry(user, expiresAt, staleUntil));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 특정 토큰의 캐시 항목 제거 (로그아웃/폐기 시)
+     */
+    public void invalidate(String accessToken) {
+        if (accessToken == null) {
+            return;
+        }
+        String key = hashToken(accessToken);
+        lock.lock();
+        try {
+            entries.remove(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void invalidateAll() {
+        lock.lock();
+        try {
+            entries.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // ===== 통계 (OAuth 서버 호출을 얼마나 흡수했는지 확인용) =====
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /** 용량 초과로 제거된 항목 수 */
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    /** TTL/토큰 만료로 캐시 히트가 되지 못한 조회 수 */
+    public long getExpiredCount() {
+        return expiredCount.sum();
+    }
+
+    /** OAuth 서버 장애 시 이전 검증 결과로 대체한 수 */
+    public long getStaleHitCount() {
+        return staleHitCount.sum();
+    }
+
+    public double getHitRatio() {
+        long hits = getHitCount();
+        long total = hits + getMissCount();
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+
+    /**
+     * 토큰을 SHA-256 해시(hex)로 변환
+     */
+    static String hashToken(String accessToken) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(accessToken.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256은 모든 JVM에서 지원됨
+            throw new IllegalStateException("SHA-256 algorithm not available", e);
+        }
+    }
+
+    private static final class Entry {
+        private final AuthenticatedUser user;
+        private final Instant expiresAt;
+        private final Instant staleUntil;
+
+        private Entry(AuthenticatedUser user, Instant expiresAt, Instant staleUntil) {
+            this.user = user;
+            this.expiresAt = expiresAt;
+            this.staleUntil = staleUntil;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.wheats.api.auth.dto;
+
+import com.wheats.api.mypage.entity.UserEntity;
+import com.wheats.api.mypage.entity.UserRole;
+
+/**
+ * 토큰 검증 결과로 얻은 인증 사용자 정보 (불변)
+ * - 캐시에 저장되므로 JPA 엔티티 대신 userId / role 만 보관
+ */
+public final class AuthenticatedUser {
+
+    private final Long userId;
+    private final UserRole role;
+
+    public AuthenticatedUser(Long userId, UserRole role) {
+        this.userId = userId;
+        this.role = role;
+    }
+
+    public static AuthenticatedUser from(UserEntity user) {
+        return new AuthenticatedUser(user.getId(), user.getRole());
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public UserRole getRole() {
+        return role;
+    }
+}
@@ -0,0 +1,30 @@
+package com.wheats.api.auth.dto;
+
+import com.wheats.api.mypage.entity.UserEntity;
+
+import java.time.Instant;
+
+/**
+ * 토큰 검증 결과 (Wheats 사용자 + 토큰 만료 시각)
+ */
+public final class VerifiedToken {
+
+    private final UserEntity user;
+    private final Instant expiresAt;
+
+    public VerifiedToken(UserEntity user, Instant expiresAt) {
+        this.user = user;
+        this.expiresAt = expiresAt;
+    }
+
+    public UserEntity getUser() {
+        return user;
+    }
+
+    /**
+     * @return 토큰 만료 시각 (알 수 없으면 null)
+     */
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+}
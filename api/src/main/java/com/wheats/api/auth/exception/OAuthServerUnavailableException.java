@@ -0,0 +1,19 @@
+package com.wheats.api.auth.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * OAuth 서버에 토큰 검증을 맡길 수 없는 상태 (타임아웃 / 연결 실패 / 5xx / 회로 차단 중)
+ * - "토큰이 유효하지 않음"(401)과 구분하기 위한 예외 → 클라이언트에는 503으로 응답
+ */
+public class OAuthServerUnavailableException extends ResponseStatusException {
+
+    public OAuthServerUnavailableException(String reason) {
+        super(HttpStatus.SERVICE_UNAVAILABLE, reason);
+    }
+
+    public OAuthServerUnavailableException(String reason, Throwable cause) {
+        super(HttpStatus.SERVICE_UNAVAILABLE, reason, cause);
+    }
+}
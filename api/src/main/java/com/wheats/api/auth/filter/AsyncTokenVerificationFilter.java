@@ -0,0 +1,142 @@
+package com.wheats.api.auth.filter;
+
+import com.wheats.api.auth.cache.RejectedTokenCache;
+import com.wheats.api.auth.dto.AuthenticatedUser;
+import com.wheats.api.auth.ratelimit.UnauthorizedRateLimiter;
+import com.wheats.api.auth.service.OAuthTokenService;
+import com.wheats.api.config.WebConfig;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 캐시 미스 토큰을 비동기로 검증하는 필터 (oauth.introspection.async.enabled=true)
+ *
+ * AuthInterceptor.preHandle()은 캐시 미스일 때 OAuth 서버 왕복 시간 내내 톰캣 워커를 붙잡는다.
+ * 이 필터는 인터셉터보다 먼저 실행되어, 검증이 필요한 요청이면 서블릿 비동기 처리(startAsync)로 전환하고
+ * 논블로킹 WebClient로 /api/me를 호출한 뒤 워커를 바로 반납한다.
+ * 검증이 끝나면 같은 요청을 다시 디스패치(ASYNC)하고, AuthInterceptor는 결과를 request attribute에서 꺼내 쓴다.
+ * → 동시에 검증 중인 요청 수가 톰캣 워커 수에 묶이지 않음
+ *
+ * 바로 다음 단계로 넘기는 경우 (인터셉터가 I/O 없이 처리):
+ * - Authorization 헤더 없음 / 인증 제외 경로(WebConfig와 동일) / 검증 캐시 히트 / 거절된 토큰 / 인증 실패 속도 제한 중
+ * - 논블로킹 검증을 지원하지 않는 TokenVerifier (local 모드 - 네트워크 호출이 없으므로 그대로 인터셉터에서 검증)
+ *
+ * 대기 중인 스레드가 없으므로 가상 스레드에서도 캐리어 스레드를 고정(pinning)하지 않는다.
+ */
+@Component
+@ConditionalOnProperty(name = "oauth.introspection.async.enabled", havingValue = "true")
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class AsyncTokenVerificationFilter extends OncePerRequestFilter {
+
+    /** AuthInterceptor가 꺼내 쓰는 검증 결과 (CompletableFuture<Optional<AuthenticatedUser>>) */
+    public static final String VERIFICATION_ATTRIBUTE = AsyncTokenVerificationFilter.class.getName() + ".VERIFICATION";
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final OAuthTokenService oauthTokenService;
+    private final RejectedTokenCache rejectedTokenCache;
+    private final UnauthorizedRateLimiter unauthorizedRateLimiter;
+    private final long timeoutMillis;
+    private final PathMatcher pathMatcher = new AntPathMatcher();
+
+    public AsyncTokenVerificationFilter(OAuthTokenService oauthTokenService,
+                                        RejectedTokenCache rejectedTokenCache,
+                                        UnauthorizedRateLimiter unauthorizedRateLimiter,
+                                        @Value("${oauth.introspection.async.timeout-ms:10000}") long timeoutMillis) {
+        this.oauthTokenService = oauthTokenService;
+        this.rejectedTokenCache = rejectedTokenCache;
+        this.unauthorizedRateLimiter = unauthorizedRateLimiter;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String authHeader = request.getHeader("Authorization");
+        if (authHeader == null || !authHeader.startsWith(BEARER_PREFIX)
+                || !request.isAsyncSupported() || !oauthTokenService.supportsAsyncVerification()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String token = authHeader.substring(BEARER_PREFIX.length());
+        if (oauthTokenService.findCached(token).isPresent()
+                || rejectedTokenCache.isRejected(token)
+                || unauthorizedRateLimiter.nanosUntilAllowed(request.getRemoteAddr()) > 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        AsyncContext asyncContext = request.startAsync(request, response);
+        asyncContext.setTimeout(timeoutMillis);
+        AtomicBoolean finished = new AtomicBoolean();
+        asyncContext.addListener(new AsyncListener() {
+            @Override
+            public void onTimeout(AsyncEvent event) throws IOException {
+                // 검증이 timeout-ms 안에 끝나지 않음 (정상이라면 OAuth 호출 타임아웃이 먼저 걸림)
+                if (finished.compareAndSet(false, true)) {
+                    HttpServletResponse timedOut = (HttpServletResponse) event.getSuppliedResponse();
+                    timedOut.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+                    timedOut.setContentType("application/json;charset=UTF-8");
+                    timedOut.getWriter().write("{\"error\": \"인증 서버 응답이 지연되고 있습니다. 잠시 후 다시 시도해주세요.\"}");
+                    event.getAsyncContext().complete();
+                }
+            }
+
+            @Override
+            public void onComplete(AsyncEvent event) {
+            }
+
+            @Override
+            public void onError(AsyncEvent event) {
+                finished.set(true);
+            }
+
+            @Override
+            public void onStartAsync(AsyncEvent event) {
+            }
+        });
+
+        CompletableFuture<Optional<AuthenticatedUser>> verification = oauthTokenService.verifyUncachedAsync(token);
+        request.setAttribute(VERIFICATION_ATTRIBUTE, verification);
+        // 성공/실패 모두 같은 요청을 다시 디스패치 → AuthInterceptor가 결과에 맞게 응답 (401 / 503 / 통과)
+        verification.whenComplete((user, error) -> {
+            if (finished.compareAndSet(false, true)) {
+                asyncContext.dispatch();
+            }
+        });
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (!pathMatcher.match(WebConfig.AUTH_PATH_PATTERN, path)) {
+            return true;
+        }
+        for (String publicPattern : WebConfig.PUBLIC_PATH_PATTERNS) {
+            if (pathMatcher.match(publicPattern, path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
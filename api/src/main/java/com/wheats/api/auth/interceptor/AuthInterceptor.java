@@ -1,13 +1,21 @@
 package com.wheats.api.auth.interceptor;
 
+import com.wheats.api.auth.cache.RejectedTokenCache;
+import com.wheats.api.auth.dto.AuthenticatedUser;
+import com.wheats.api.auth.exception.OAuthServerUnavailableException;
+import com.wheats.api.auth.filter.AsyncTokenVerificationFilter;
+import com.wheats.api.auth.ratelimit.UnauthorizedRateLimiter;
 import com.wheats.api.auth.service.OAuthTokenService;
-import com.wheats.api.mypage.entity.UserEntity;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.HandlerInterceptor;
 
+import java.io.IOException;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class AuthInterceptor implements HandlerInterceptor {
@@ -16,12 +24,18 @@ public class AuthInterceptor implements HandlerInterceptor {
     private static final String BEARER_PREFIX = "Bearer ";
     private static final String USER_ID_ATTRIBUTE = "userId";
     private static final String USER_ROLE_ATTRIBUTE = "role";
-    private static final String USER_ENTITY_ATTRIBUTE = "user";
+    private static final String RETRY_AFTER_SECONDS = "5";
 
     private final OAuthTokenService oauthTokenService;
+    private final RejectedTokenCache rejectedTokenCache;
+    private final UnauthorizedRateLimiter unauthorizedRateLimiter;
 
-    public AuthInterceptor(OAuthTokenService oauthTokenService) {
+    public AuthInterceptor(OAuthTokenService oauthTokenService,
+                           RejectedTokenCache rejectedTokenCache,
+                           UnauthorizedRateLimiter unauthorizedRateLimiter) {
         this.oauthTokenService = oauthTokenService;
+        this.rejectedTokenCache = rejectedTokenCache;
+        this.unauthorizedRateLimiter = unauthorizedRateLimiter;
     }
 
     @Override
@@ -40,27 +54,71 @@ public class AuthInterceptor implements HandlerInterceptor {
         String token = authHeader.substring(BEARER_PREFIX.length());
 
         // 3. OAuth 토큰 검증 및 사용자 정보 가져오기
-        //    - OAuth 서버의 /api/me를 호출하여 토큰 검증 및 이메일 추출
+        //    - 검증 캐시에 있으면 OAuth 서버/DB 호출 없이 바로 사용
+        //    - 401을 너무 자주 받은 클라이언트(IP)면 검증하지 않고 429
+        //    - 최근에 거절된 토큰이면 OAuth 서버/DB 호출 없이 바로 401 (이것도 401이므로 허용량 차감)
+        //    - 그 외에는 OAuth 서버의 /api/me를 호출하여 토큰 검증 및 이메일 추출
         //    - 추출한 이메일로 Wheats DB의 User 테이블에서 사용자 조회
-        Optional<UserEntity> userOpt = oauthTokenService.validateTokenAndGetUser(token);
-        
+        //    - OAuth 서버 장애(타임아웃/회로 차단)면 401이 아니라 503 (클라이언트가 로그아웃하지 않도록)
+        Optional<AuthenticatedUser> userOpt = oauthTokenService.findCached(token);
         if (userOpt.isEmpty()) {
-            response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-            response.setContentType("application/json;charset=UTF-8");
-            response.getWriter().write("{\"error\": \"유효하지 않은 토큰입니다.\"}");
-            return false;
+            String client = request.getRemoteAddr();
+
+            long waitNanos = unauthorizedRateLimiter.nanosUntilAllowed(client);
+            if (waitNanos > 0) {
+                unauthorizedRateLimiter.recordThrottled();
+                long retryAfterSeconds = (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1);  // 올림
+                response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+                response.setHeader("Retry-After", String.valueOf(retryAfterSeconds));
+                response.setContentType("application/json;charset=UTF-8");
+                response.getWriter().write("{\"error\": \"인증 실패가 너무 많습니다. 잠시 후 다시 시도해주세요.\"}");
+                return false;
+            }
+
+            if (rejectedTokenCache.isRejected(token)) {
+                unauthorizedRateLimiter.recordRejection(client);
+                writeInvalidToken(response);
+                return false;
+            }
+
+            try {
+                // AsyncTokenVerificationFilter가 비동기로 검증해 둔 결과가 있으면 사용 (ASYNC 디스패치, 이미 완료됨)
+                @SuppressWarnings("unchecked")
+                CompletableFuture<Optional<AuthenticatedUser>> verification = (CompletableFuture<Optional<AuthenticatedUser>>)
+                        request.getAttribute(AsyncTokenVerificationFilter.VERIFICATION_ATTRIBUTE);
+                userOpt = (verification != null)
+                        ? oauthTokenService.getVerificationResult(verification)
+                        : oauthTokenService.verifyUncached(token);
+            } catch (OAuthServerUnavailableException e) {
+                response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+                response.setHeader("Retry-After", RETRY_AFTER_SECONDS);
+                response.setContentType("application/json;charset=UTF-8");
+                response.getWriter().write("{\"error\": \"인증 서버에 일시적으로 연결할 수 없습니다. 잠시 후 다시 시도해주세요.\"}");
+                return false;
+            }
+
+            if (userOpt.isEmpty()) {
+                rejectedTokenCache.reject(token);
+                unauthorizedRateLimiter.recordRejection(client);
+                writeInvalidToken(response);
+                return false;
+            }
         }
 
-        UserEntity user = userOpt.get();
+        AuthenticatedUser user = userOpt.get();
         
         // 4. 사용자 정보를 Request Attribute에 저장
-        //    - userId: 개별 속성으로 저장 (기존 호환성 유지)
-        //    - role: 개별 속성으로 저장 (기존 호환성 유지)
-        //    - user: UserEntity 전체 객체 저장 (새로 추가)
-        request.setAttribute(USER_ID_ATTRIBUTE, user.getId());
+        //    - userId: 개별 속성으로 저장 (AuthContext에서 사용)
+        //    - role: 개별 속성으로 저장 (AuthContext에서 사용)
+        request.setAttribute(USER_ID_ATTRIBUTE, user.getUserId());
         request.setAttribute(USER_ROLE_ATTRIBUTE, user.getRole().name());
-        request.setAttribute(USER_ENTITY_ATTRIBUTE, user);
         
         return true;
     }
+
+    private void writeInvalidToken(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+        response.setContentType("application/json;charset=UTF-8");
+        response.getWriter().write("{\"error\": \"유효하지 않은 토큰입니다.\"}");
+    }
 }
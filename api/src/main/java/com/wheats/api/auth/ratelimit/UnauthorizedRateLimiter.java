@@ -0,0 +1,138 @@
+package com.wheats.api.auth.ratelimit;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 클라이언트별 인증 실패 속도 제한 (토큰 버킷)
+ *
+ * 401을 받은 클라이언트가 같은/다른 무효 토큰으로 계속 재시도하면 그때마다 OAuth 서버 호출이 생긴다.
+ * 클라이언트(IP)마다 capacity개의 허용량을 두고 401 응답마다 1개씩 차감, 초당 refill-per-second개씩 회복한다.
+ * 허용량이 바닥난 클라이언트는 캐시되지 않은 토큰을 검증하지 않고 429로 바로 돌려보낸다.
+ * - 거절 캐시 히트로 응답한 401도 차감 → 같은 무효 토큰 반복 / 서로 다른 무효 토큰 난사 모두 제한
+ * - 정상 토큰 검증 성공은 차감하지 않고, 검증 캐시에 있는 토큰은 제한 대상이 아님
+ *
+ * 버킷 상태는 long 하나 - 버킷이 다시 가득 차는 시각(System.nanoTime 기준)
+ * → AtomicLong CAS 만으로 갱신 (lock 없음)
+ *   - 남은 허용량 = (now + capacity * interval - fullAt) / interval
+ *   - 1개 차감 = fullAt을 max(fullAt, now) + interval 로
+ *
+ * 가득 찬 버킷은 상태가 필요 없으므로, 추적 중인 클라이언트가 max-clients를 넘으면 가득 찬 버킷부터 정리한다.
+ * 그래도 자리가 없으면 새 클라이언트는 제한하지 않는다 (fail-open).
+ */
+@Component
+public class UnauthorizedRateLimiter {
+
+    private final int capacity;
+    private final long intervalNanos;
+    private final int maxClients;
+    private final LongSupplier nanoClock;
+
+    private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+
+    private final LongAdder throttledCount = new LongAdder();
+    private final LongAdder untrackedCount = new LongAdder();
+
+    @Autowired
+    public UnauthorizedRateLimiter(@Value("${auth.unauthorized-rate-limit.capacity:20}") int capacity,
+                                   @Value("${auth.unauthorized-rate-limit.refill-per-second:1}") double refillPerSecond,
+                                   @Value("${auth.unauthorized-rate-limit.max-clients:10000}") int maxClients) {
+        this(capacity, refillPerSecond, maxClients, System::nanoTime);
+    }
+
+    UnauthorizedRateLimiter(int capacity, double refillPerSecond, int maxClients, LongSupplier nanoClock) {
+        this.capacity = capacity;
+        this.intervalNanos = (refillPerSecond > 0)
+                ? Math.max(1L, (long) (TimeUnit.SECONDS.toNanos(1) / refillPerSecond))
+                : Long.MAX_VALUE / 4;
+        this.maxClients = maxClients;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * 허용량이 남아 있는지 확인 (차감하지 않음)
+     * @param client 클라이언트 키 (원격 IP)
+     * @return 0이면 허용, 양수면 허용량이 1개 회복될 때까지 남은 시간(ns) → 429
+     */
+    public long nanosUntilAllowed(String client) {
+        if (capacity <= 0 || client == null) {
+            return 0;
+        }
+        AtomicLong bucket = buckets.get(client);
+        if (bucket == null) {
+            return 0;
+        }
+        long now = nanoClock.getAsLong();
+        long wait = Math.max(bucket.get(), now) + intervalNanos - burstNanos() - now;
+        return Math.max(0, wait);
+    }
+
+    /** 허용량 부족으로 429 응답 1건 (통계용) */
+    public void recordThrottled() {
+        throttledCount.increment();
+    }
+
+    /**
+     * 401 응답 1건 기록 (허용량 1개 차감, 0 아래로는 내려가지 않음)
+     * @param client 클라이언트 키 (원격 IP)
+     */
+    public void recordRejection(String client) {
+        if (capacity <= 0 || client == null) {
+            return;
+        }
+        AtomicLong bucket = bucketFor(client);
+        if (bucket == null) {
+            return;
+        }
+        long now = nanoClock.getAsLong();
+        long emptyAt = now + burstNanos();
+        bucket.updateAndGet(fullAt -> Math.min(Math.max(fullAt, now) + intervalNanos, emptyAt));
+    }
+
+    private AtomicLong bucketFor(String client) {
+        AtomicLong bucket = buckets.get(client);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (buckets.size() >= maxClients) {
+            // 이미 가득 찬 버킷(= 최근 401 없음)은 상태가 필요 없으므로 정리
+            long now = nanoClock.getAsLong();
+            buckets.values().removeIf(b -> b.get() <= now);
+            if (buckets.size() >= maxClients) {
+                untrackedCount.increment();
+                return null;
+            }
+        }
+        AtomicLong created = new AtomicLong(nanoClock.getAsLong());
+        AtomicLong existing = buckets.putIfAbsent(client, created);
+        return (existing != null) ? existing : created;
+    }
+
+    /** 허용량 전체를 회복하는 데 걸리는 시간 */
+    private long burstNanos() {
+        return (intervalNanos > Long.MAX_VALUE / 4 / capacity) ? Long.MAX_VALUE / 4 : intervalNanos * capacity;
+    }
+
+    public int trackedClientCount() {
+        return buckets.size();
+    }
+
+    // ===== 통계 =====
+
+    /** 허용량이 바닥나 429로 돌려보낸 요청 수 */
+    public long getThrottledCount() {
+        return throttledCount.sum();
+    }
+
+    /** 추적 한도(max-clients) 초과로 제한하지 못한 401 수 */
+    public long getUntrackedCount() {
+        return untrackedCount.sum();
+    }
+}
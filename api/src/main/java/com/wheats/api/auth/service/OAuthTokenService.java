@@ -1,144 +1,170 @@
 package com.wheats.api.auth.service;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wheats.api.auth.cache.InFlightTokenVerifications;
+import com.wheats.api.auth.cache.TokenIntrospectionCache;
+import com.wheats.api.auth.dto.AuthenticatedUser;
+import com.wheats.api.auth.dto.VerifiedToken;
+import com.wheats.api.auth.exception.OAuthServerUnavailableException;
+import com.wheats.api.auth.verifier.TokenVerifier;
 import com.wheats.api.mypage.entity.UserEntity;
-import com.wheats.api.mypage.repository.UserRepository;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
- * OAuth 서버와 통신하여 토큰을 검증하고 사용자 정보를 가져오는 서비스
+ * 토큰을 검증하고 사용자 정보를 가져오는 서비스
+ *
+ * 실제 검증은 설정(oauth.verification.mode)에 따라 선택된 {@link TokenVerifier}가 담당한다.
+ * - remote: OAuth 서버 /api/me 호출
+ * - local : 서명된 JWT Access Token을 API 서버 안에서 검증
  */
 @Service
 public class OAuthTokenService {
 
-    private final RestTemplate restTemplate;
-    private final ObjectMapper objectMapper;
-    private final UserRepository userRepository;
+    private final TokenVerifier tokenVerifier;
+    private final TokenIntrospectionCache introspectionCache;
+    private final InFlightTokenVerifications inFlightVerifications;
 
-    @Value("${oauth.server.url:http://oauth-server:3000}")
-    private String oauthServerUrl;
-
-    public OAuthTokenService(UserRepository userRepository) {
-        this.restTemplate = new RestTemplate();
-        this.objectMapper = new ObjectMapper();
-        this.userRepository = userRepository;
+    public OAuthTokenService(TokenVerifier tokenVerifier,
+                             TokenIntrospectionCache introspectionCache,
+                             InFlightTokenVerifications inFlightVerifications) {
+        this.tokenVerifier = tokenVerifier;
+        this.introspectionCache = introspectionCache;
+        this.inFlightVerifications = inFlightVerifications;
     }
 
     /**
-     * OAuth Access Token을 검증하고 사용자 정보를 가져옴
-     * 
+     * OAuth Access Token을 검증하고 인증 사용자(userId, role)를 반환 (캐시 사용)
+     *
      * 처리 과정:
-     * 1. OAuth 서버의 /api/me 엔드포인트를 호출하여 토큰 검증 및 사용자 정보 조회
-     * 2. 응답에서 이메일 추출
-     * 3. 추출한 이메일로 Wheats DB의 User 테이블에서 사용자 조회
-     * 
+     * 1. 토큰 해시로 검증 캐시 조회 → 히트 시 OAuth 서버/DB 호출 없이 바로 반환
+     * 2. 미스 시 TokenVerifier로 검증 + users 조회 (validateTokenAndGetUser와 동일)
+     *    - 같은 토큰의 검증이 이미 진행 중이면 새로 호출하지 않고 그 결과를 받음 (InFlightTokenVerifications)
+     * 3. 검증 성공 결과를 min(캐시 TTL, 토큰 만료 시각) 동안 캐시
+     * 4. OAuth 서버 장애 시에는 TTL이 지난 이전 검증 결과라도 유예 시간 안이면 사용
+     *
      * @param accessToken OAuth Access Token (Bearer 접두사 없이 전달됨)
-     * @return wheats DB의 UserEntity (Optional) - 토큰이 유효하고 사용자가 존재하면 UserEntity 반환
+     * @return 인증 사용자 정보 (Optional)
+     * @throws OAuthServerUnavailableException OAuth 서버 장애 + 대체할 이전 검증 결과 없음
      */
-    public Optional<UserEntity> validateTokenAndGetUser(String accessToken) {
-        // 디버그: 전달된 토큰 정보 로깅 (보안을 위해 일부만)
-        String tokenPreview = accessToken != null && accessToken.length() > 15 
-            ? accessToken.substring(0, 10) + "..." + accessToken.substring(accessToken.length() - 5)
-            : (accessToken != null ? accessToken : "null");
-        System.out.println("🔍 OAuth Token Validation Request:");
-        System.out.println("   Token Length: " + (accessToken != null ? accessToken.length() : 0));
-        System.out.println("   Token Preview: " + tokenPreview);
-        System.out.println("   OAuth Server URL: " + oauthServerUrl + "/api/me");
-        
+    public Optional<AuthenticatedUser> authenticate(String accessToken) {
+        Optional<AuthenticatedUser> cached = findCached(accessToken);
+        if (cached.isPresent()) {
+            return cached;
+        }
+        return verifyUncached(accessToken);
+    }
+
+    /**
+     * 검증 캐시만 조회 (OAuth 서버/DB 호출 없음)
+     *
+     * @param accessToken OAuth Access Token (Bearer 접두사 없이 전달됨)
+     */
+    public Optional<AuthenticatedUser> findCached(String accessToken) {
+        return introspectionCache.get(accessToken);
+    }
+
+    /**
+     * 캐시 미스인 토큰 검증 (authenticate의 2~4단계)
+     * - AuthInterceptor가 캐시 조회 → 거절 토큰/속도 제한 확인 → 이 메서드 순서로 호출
+     *
+     * @param accessToken OAuth Access Token (Bearer 접두사 없이 전달됨)
+     * @throws OAuthServerUnavailableException OAuth 서버 장애 + 대체할 이전 검증 결과 없음
+     */
+    public Optional<AuthenticatedUser> verifyUncached(String accessToken) {
         try {
-            // 1. OAuth 서버의 /api/me 엔드포인트 호출하여 토큰 검증 및 사용자 정보 조회
-            HttpHeaders headers = new HttpHeaders();
-            
-            // Bearer 접두사 확인 및 추가
-            String bearerToken = accessToken;
-            if (accessToken != null && !accessToken.startsWith("Bearer ")) {
-                bearerToken = "Bearer " + accessToken;
+            return inFlightVerifications.verify(accessToken, () -> verifyAndCache(accessToken));
+        } catch (OAuthServerUnavailableException e) {
+            // OAuth 서버 장애: 최근에 검증했던 토큰이면 이전 결과로 통과 (유예 시간 내), 아니면 503
+            Optional<AuthenticatedUser> stale = introspectionCache.getStale(accessToken);
+            if (stale.isPresent()) {
+                return stale;
             }
-            headers.set("Authorization", bearerToken);
-            HttpEntity<String> entity = new HttpEntity<>(headers);
+            throw e;
+        }
+    }
 
-            String url = oauthServerUrl + "/api/me";
-            System.out.println("   Request URL: " + url);
-            System.out.println("   Authorization Header: " + bearerToken.substring(0, Math.min(20, bearerToken.length())) + "...");
-            
-            ResponseEntity<String> response = restTemplate.exchange(
-                    url,
-                    HttpMethod.GET,
-                    entity,
-                    String.class
-            );
+    /** verifyUncachedAsync()가 OAuth 서버 응답을 기다리는 동안 호출 스레드를 막지 않는지 */
+    public boolean supportsAsyncVerification() {
+        return tokenVerifier.supportsNonBlockingVerify();
+    }
 
-            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-                // 2. JSON 응답 파싱하여 이메일 추출
-                JsonNode jsonNode = objectMapper.readTree(response.getBody());
-                String email = jsonNode.get("email").asText();
+    /**
+     * verifyUncached()의 비동기 버전 (AsyncTokenVerificationFilter가 사용)
+     * - OAuth 서버 응답을 기다리는 동안 호출 스레드를 막지 않음
+     * - 결과는 getVerificationResult()로 꺼낸다
+     *
+     * @param accessToken OAuth Access Token (Bearer 접두사 없이 전달됨)
+     */
+    public CompletableFuture<Optional<AuthenticatedUser>> verifyUncachedAsync(String accessToken) {
+        return inFlightVerifications
+                .verifyAsync(accessToken, () -> tokenVerifier.verifyAsync(accessToken)
+                        .thenApply(verifiedOpt -> cacheVerified(accessToken, verifiedOpt)))
+                .handle((user, error) -> {
+                    if (error == null) {
+                        return user;
+                    }
+                    Throwable cause = (error instanceof CompletionException && error.getCause() != null)
+                            ? error.getCause()
+                            : error;
+                    if (cause instanceof OAuthServerUnavailableException) {
+                        // OAuth 서버 장애: verifyUncached()와 같이 이전 검증 결과로 대체
+                        Optional<AuthenticatedUser> stale = introspectionCache.getStale(accessToken);
+                        if (stale.isPresent()) {
+                            return stale;
+                        }
+                    }
+                    throw (cause instanceof RuntimeException runtimeException)
+                            ? runtimeException
+                            : new CompletionException(cause);
+                });
+    }
 
-                // 3. 추출한 이메일로 Wheats DB의 User 테이블에서 사용자 조회
-                Optional<UserEntity> userOpt = userRepository.findByEmail(email);
-                
-                if (userOpt.isPresent()) {
-                    System.out.println("✅ OAuth 토큰 검증 성공: email=" + email + ", userId=" + userOpt.get().getId());
-                } else {
-                    System.out.println("⚠️ OAuth 토큰은 유효하지만 Wheats DB에 해당 사용자가 없음: email=" + email);
-                }
-                
-                return userOpt;
+    /**
+     * 완료된 verifyUncachedAsync() 결과 꺼내기
+     *
+     * @throws OAuthServerUnavailableException OAuth 서버 장애 + 대체할 이전 검증 결과 없음
+     */
+    public Optional<AuthenticatedUser> getVerificationResult(CompletableFuture<Optional<AuthenticatedUser>> verification) {
+        try {
+            return verification.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
             }
+            throw e;
+        }
+    }
 
-            System.out.println("⚠️ OAuth 서버 응답: " + response.getStatusCode() + " (Body: " + response.getBody() + ")");
-            return Optional.empty();
-        } catch (org.springframework.web.client.HttpClientErrorException.Unauthorized e) {
-            // 401 Unauthorized 에러 상세 로깅
-            System.err.println("❌ OAuth token validation failed: 401 UNAUTHORIZED");
-            System.err.println("   Token Preview: " + tokenPreview);
-            System.err.println("   Response Body: " + e.getResponseBodyAsString());
-            System.err.println("   Status Code: " + e.getStatusCode());
-            System.err.println("   Status Text: " + e.getStatusText());
-            
-            // 응답 본문에서 에러 상세 정보 추출
-            try {
-                if (e.getResponseBodyAsString() != null) {
-                    JsonNode errorNode = objectMapper.readTree(e.getResponseBodyAsString());
-                    String error = errorNode.has("error") ? errorNode.get("error").asText() : "unknown";
-                    String errorDescription = errorNode.has("error_description") 
-                        ? errorNode.get("error_description").asText() 
-                        : "No description";
-                    System.err.println("   Error: " + error);
-                    System.err.println("   Error Description: " + errorDescription);
-                }
-            } catch (Exception parseEx) {
-                System.err.println("   Failed to parse error response: " + parseEx.getMessage());
-            }
-            
-            e.printStackTrace();
-            return Optional.empty();
-        } catch (Exception e) {
-            // 기타 예외 처리
-            System.err.println("❌ OAuth token validation failed: " + e.getClass().getSimpleName());
-            System.err.println("   Token Preview: " + tokenPreview);
-            System.err.println("   Error Message: " + e.getMessage());
-            System.err.println("   OAuth Server URL: " + oauthServerUrl + "/api/me");
-            
-            // 연결 실패인지 확인
-            if (e.getCause() instanceof java.net.ConnectException) {
-                System.err.println("   ⚠️ OAuth 서버에 연결할 수 없습니다. 서버가 실행 중인지 확인하세요.");
-            } else if (e.getCause() instanceof java.net.UnknownHostException) {
-                System.err.println("   ⚠️ OAuth 서버 호스트를 찾을 수 없습니다: " + oauthServerUrl);
-            }
-            
-            e.printStackTrace();
+    /**
+     * TokenVerifier로 검증 + 성공 결과 캐시 저장
+     * - 캐시 저장까지 끝난 뒤에 진행 중 목록에서 빠지므로, 그 뒤에 온 요청은 캐시 히트
+     */
+    private Optional<AuthenticatedUser> verifyAndCache(String accessToken) {
+        return cacheVerified(accessToken, tokenVerifier.verify(accessToken));
+    }
+
+    /** 검증 성공 결과를 캐시에 저장하고 인증 사용자로 변환 */
+    private Optional<AuthenticatedUser> cacheVerified(String accessToken, Optional<VerifiedToken> verifiedOpt) {
+        if (verifiedOpt.isEmpty()) {
             return Optional.empty();
         }
+
+        VerifiedToken verified = verifiedOpt.get();
+        AuthenticatedUser authenticatedUser = AuthenticatedUser.from(verified.getUser());
+        introspectionCache.put(accessToken, authenticatedUser, verified.getExpiresAt());
+        return Optional.of(authenticatedUser);
     }
 
+    /**
+     * OAuth Access Token을 검증하고 사용자 정보를 가져옴 (캐시 미사용)
+     *
+     * @param accessToken OAuth Access Token (Bearer 접두사 없이 전달됨)
+     * @return wheats DB의 UserEntity (Optional) - 토큰이 유효하고 사용자가 존재하면 UserEntity 반환
+     */
+    public Optional<UserEntity> validateTokenAndGetUser(String accessToken) {
+        return tokenVerifier.verify(accessToken).map(VerifiedToken::getUser);
+    }
 }
-
@@ -0,0 +1,86 @@
+package com.wheats.api.auth.util;
+
+import io.jsonwebtoken.Claims;
+
+import java.time.Instant;
+import java.util.Arrays;
+
+/**
+ * 서명 검증이 끝난 JWT 클레임의 불변 뷰
+ * - JwtUtil.parseClaims() 한 번으로 userId / role / 만료 시간 등을 모두 꺼내 쓰기 위함
+ */
+public final class JwtClaims {
+
+    private final String subject;
+    private final Long userId;
+    private final String role;
+    private final String email;
+    private final String scope;
+    private final Instant expiresAt;
+
+    private JwtClaims(String subject, Long userId, String role, String email, String scope, Instant expiresAt) {
+        this.subject = subject;
+        this.userId = userId;
+        this.role = role;
+        this.email = email;
+        this.scope = scope;
+        this.expiresAt = expiresAt;
+    }
+
+    static JwtClaims from(Claims claims) {
+        String subject = claims.getSubject();
+        return new JwtClaims(
+                subject,
+                parseUserId(subject),
+                claims.get("role", String.class),
+                claims.get("email", String.class),
+                claims.get("scope", String.class),
+                claims.getExpiration() != null ? claims.getExpiration().toInstant() : null
+        );
+    }
+
+    private static Long parseUserId(String subject) {
+        if (subject == null) {
+            return null;
+        }
+        try {
+            return Long.parseLong(subject);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    /**
+     * @return subject를 숫자로 해석한 사용자 ID (숫자가 아니면 null)
+     */
+    public Long getUserId() {
+        return userId;
+    }
+
+    public String getRole() {
+        return role;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getScope() {
+        return scope;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+    /**
+     * scope 클레임(공백 구분)에 해당 scope가 포함되어 있는지 확인
+     */
+    public boolean hasScope(String requiredScope) {
+        return scope != null && Arrays.asList(scope.split(" ")).contains(requiredScope);
+    }
+}
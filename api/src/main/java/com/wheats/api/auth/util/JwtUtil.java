@@ -2,8 +2,10 @@ package com.wheats.api.auth.util;
 
 import com.wheats.api.mypage.entity.UserRole;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
@@ -13,12 +15,39 @@ import java.util.Date;
 @Component
 public class JwtUtil {
 
-    // ⚠️ 프로덕션에서는 환경변수로 관리해야 함
-    private static final String SECRET_KEY = "wheats-secret-key-for-jwt-token-generation-change-in-production";
+    // ⚠️ 프로덕션에서는 환경변수(JWT_SECRET)로 관리해야 함
+    //    OAuth 서버가 서명된 Access Token을 발급하는 경우 같은 키를 공유해야 함
+    private static final String DEFAULT_SECRET_KEY = "wheats-secret-key-for-jwt-token-generation-change-in-production";
     private static final long EXPIRATION_TIME = 86400000; // 24시간 (밀리초)
 
+    // 서명 키와 파서는 시작 시 한 번만 생성 (둘 다 불변 → 스레드 안전)
+    private final SecretKey signingKey;
+    private final JwtParser jwtParser;
+
+    public JwtUtil(@Value("${jwt.secret:" + DEFAULT_SECRET_KEY + "}") String secretKey) {
+        this.signingKey = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+    }
+
     private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(SECRET_KEY.getBytes(StandardCharsets.UTF_8));
+        return signingKey;
+    }
+
+    /**
+     * JWT 토큰을 한 번만 검증/파싱하여 필요한 클레임을 모두 반환
+     * - 같은 요청에서 userId, role, 만료 시간이 모두 필요할 때 사용
+     * @param token JWT 토큰
+     * @return 검증된 클레임 (불변)
+     * @throws io.jsonwebtoken.JwtException 서명 불일치/만료/형식 오류
+     */
+    public JwtClaims parseClaims(String token) {
+        return JwtClaims.from(parseSignedClaims(token));
+    }
+
+    private Claims parseSignedClaims(String token) {
+        return jwtParser.parseSignedClaims(token).getPayload();
     }
 
     /**
@@ -84,11 +113,7 @@ public class JwtUtil {
      * @return 사용자 ID
      */
     public Long getUserIdFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        Claims claims = parseSignedClaims(token);
 
         return Long.parseLong(claims.getSubject());
     }
@@ -100,10 +125,7 @@ public class JwtUtil {
      */
     public boolean validateToken(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token);
+            parseSignedClaims(token);
             return true;
         } catch (Exception e) {
             return false;
@@ -116,11 +138,7 @@ public class JwtUtil {
      * @return 사용자 권한 (customer, store, admin) 또는 null
      */
     public String getRoleFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        Claims claims = parseSignedClaims(token);
 
         return claims.get("role", String.class);
     }
@@ -131,12 +149,31 @@ public class JwtUtil {
      * @return 만료 시간
      */
     public Date getExpirationDateFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        Claims claims = parseSignedClaims(token);
 
         return claims.getExpiration();
     }
+
+    /**
+     * JWT 토큰에서 이메일(email 클레임) 추출
+     * - OAuth 서버가 발급한 서명된 Access Token에 포함됨
+     * @param token JWT 토큰
+     * @return 이메일 또는 null
+     */
+    public String getEmailFromToken(String token) {
+        Claims claims = parseSignedClaims(token);
+
+        return claims.get("email", String.class);
+    }
+
+    /**
+     * JWT 토큰에서 OAuth scope(scope 클레임, 공백 구분) 추출
+     * @param token JWT 토큰
+     * @return scope 문자열 또는 null
+     */
+    public String getScopeFromToken(String token) {
+        Claims claims = parseSignedClaims(token);
+
+        return claims.get("scope", String.class);
+    }
 }
@@ -0,0 +1,132 @@
+package com.wheats.api.auth.verifier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * OAuth 서버 /api/me 호출용 회로 차단기
+ *
+ * - CLOSED   : 정상 호출. 연속 실패가 failure-threshold 번이면 OPEN
+ * - OPEN     : open-seconds 동안 호출하지 않고 바로 거절 (톰캣 워커가 느린 OAuth 서버에 묶이지 않도록)
+ * - HALF_OPEN: open-seconds가 지나면 시험 호출 1건만 허용 → 성공하면 CLOSED, 실패하면 다시 OPEN
+ *
+ * 실패 = 타임아웃 / 연결 실패 / 5xx (401 등 4xx는 서버가 정상 응답한 것이므로 성공으로 본다)
+ */
+@Component
+public class IntrospectionCircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int failureThreshold;
+    private final Duration openDuration;
+    private final Clock clock;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private Instant openedAt;
+    private boolean trialInFlight;
+
+    private final LongAdder rejectedCount = new LongAdder();
+    private final LongAdder openCount = new LongAdder();
+
+    @Autowired
+    public IntrospectionCircuitBreaker(
+            @Value("${oauth.introspection.circuit-breaker.failure-threshold:5}") int failureThreshold,
+            @Value("${oauth.introspection.circuit-breaker.open-seconds:10}") long openSeconds) {
+        this(failureThreshold, Duration.ofSeconds(openSeconds), Clock.systemUTC());
+    }
+
+    IntrospectionCircuitBreaker(int failureThreshold, Duration openDuration, Clock clock) {
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.openDuration = openDuration;
+        this.clock = clock;
+    }
+
+    /**
+     * 호출 허용 여부 (허용했다면 호출 후 반드시 onSuccess() / onFailure() 중 하나를 호출해야 함)
+     */
+    public boolean tryAcquire() {
+        lock.lock();
+        try {
+            switch (state) {
+                case CLOSED:
+                    return true;
+                case OPEN:
+                    if (clock.instant().isBefore(openedAt.plus(openDuration))) {
+                        rejectedCount.increment();
+                        return false;
+                    }
+                    state = State.HALF_OPEN;
+                    trialInFlight = true;
+                    return true;
+                default:
+                    // HALF_OPEN: 시험 호출이 끝날 때까지 나머지는 거절
+                    if (trialInFlight) {
+                        rejectedCount.increment();
+                        return false;
+                    }
+                    trialInFlight = true;
+                    return true;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void onSuccess() {
+        lock.lock();
+        try {
+            state = State.CLOSED;
+            consecutiveFailures = 0;
+            trialInFlight = false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void onFailure() {
+        lock.lock();
+        try {
+            trialInFlight = false;
+            consecutiveFailures++;
+            if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+                if (state != State.OPEN) {
+                    openCount.increment();
+                }
+                state = State.OPEN;
+                openedAt = clock.instant();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public State getState() {
+        lock.lock();
+        try {
+            return state;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // ===== 통계 =====
+
+    /** 회로가 열려 있어서 호출하지 않고 거절한 수 */
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    /** CLOSED/HALF_OPEN → OPEN 전환 횟수 */
+    public long getOpenCount() {
+        return openCount.sum();
+    }
+}
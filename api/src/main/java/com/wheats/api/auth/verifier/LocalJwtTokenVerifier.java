@@ -0,0 +1,68 @@
+package com.wheats.api.auth.verifier;
+
+import com.wheats.api.auth.dto.VerifiedToken;
+import com.wheats.api.auth.util.JwtClaims;
+import com.wheats.api.auth.util.JwtUtil;
+import com.wheats.api.mypage.entity.UserEntity;
+import com.wheats.api.mypage.repository.UserRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * 서명된 JWT Access Token을 API 서버 안에서 직접 검증하는 방식 (oauth.verification.mode=local)
+ *
+ * OAuth 서버를 OAUTH_SIGNED_ACCESS_TOKENS=1 로 실행하면 Access Token이 HS256 JWT로 발급된다.
+ * (claims: sub=OAuth 사용자 ID, email, role, scope, exp / 서명 키는 jwt.secret과 동일해야 함)
+ *
+ * 처리 과정:
+ * 1. 서명 + 만료 시간 검증 (네트워크 호출 없음)
+ * 2. /api/me와 같은 조건으로 profile scope 확인
+ * 3. email 클레임으로 Wheats DB의 User 테이블에서 사용자 조회 (userId, role은 Wheats DB 기준)
+ *
+ * sub / role 클레임은 인증 주체로 쓰지 않는다 (검증 캐시 미스마다 DB 조회 1번은 의도된 동작):
+ * - sub는 OAuth 서버 DB의 사용자 ID라 Wheats users.id와 다른 번호 체계 (같은 사람도 값이 다름)
+ * - role은 OAuth 서버 값(customer/store/admin)이라 Wheats UserRole(CONSUMER/MERCHANT/ADMIN)과 다르고,
+ *   Wheats 쪽 권한 변경이 토큰 만료 전까지 반영되지 않게 된다
+ * → remote 모드(/api/me → email → DB 조회)와 같은 사용자/권한을 얻기 위해 email로 조회한다.
+ *   조회 결과는 TokenIntrospectionCache에 캐시되므로 같은 토큰의 반복 요청은 DB를 다시 조회하지 않음
+ *
+ * ⚠️ 토큰 폐기(revoke)는 만료 전까지 반영되지 않는다. 즉시 폐기가 필요하면 remote 모드를 사용할 것.
+ */
+@Component
+@ConditionalOnProperty(name = "oauth.verification.mode", havingValue = "local")
+public class LocalJwtTokenVerifier implements TokenVerifier {
+
+    private static final String REQUIRED_SCOPE = "profile";
+
+    private final JwtUtil jwtUtil;
+    private final UserRepository userRepository;
+
+    public LocalJwtTokenVerifier(JwtUtil jwtUtil, UserRepository userRepository) {
+        this.jwtUtil = jwtUtil;
+        this.userRepository = userRepository;
+    }
+
+    @Override
+    public Optional<VerifiedToken> verify(String accessToken) {
+        if (accessToken == null) {
+            return Optional.empty();
+        }
+
+        // 서명/만료 검증 + 클레임 추출을 한 번의 파싱으로 처리
+        JwtClaims claims;
+        try {
+            claims = jwtUtil.parseClaims(accessToken);
+        } catch (Exception e) {
+            return Optional.empty();
+        }
+
+        if (!claims.hasScope(REQUIRED_SCOPE) || claims.getEmail() == null) {
+            return Optional.empty();
+        }
+
+        Optional<UserEntity> userOpt = userRepository.findByEmail(claims.getEmail());
+        return userOpt.map(user -> new VerifiedToken(user, claims.getExpiresAt()));
+    }
+}
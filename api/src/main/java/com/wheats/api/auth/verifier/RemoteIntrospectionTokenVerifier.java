@@ -0,0 +1,325 @@
+package com.wheats.api.auth.verifier;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wheats.api.auth.dto.VerifiedToken;
+import com.wheats.api.auth.exception.OAuthServerUnavailableException;
+import com.wheats.api.mypage.entity.UserEntity;
+import com.wheats.api.mypage.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * OAuth 서버의 /api/me를 호출하여 토큰을 검증하는 방식 (기본값)
+ *
+ * 처리 과정:
+ * 1. OAuth 서버의 /api/me 엔드포인트를 호출하여 토큰 검증 및 사용자 정보 조회
+ *    (커넥션 풀 + 타임아웃이 설정된 oauthRestTemplate 사용, OAuthClientConfig 참고)
+ * 2. 응답에서 이메일(+ 토큰 만료 시각) 추출
+ * 3. 추출한 이메일로 Wheats DB의 User 테이블에서 사용자 조회
+ *
+ * OAuth 서버가 응답하지 못하면(타임아웃 / 연결 실패 / 5xx / 회로 차단 중)
+ * "유효하지 않은 토큰"이 아니라 OAuthServerUnavailableException을 던진다.
+ *
+ * oauthWebClient가 있으면(oauth.introspection.async.enabled=true) verifyAsync()는
+ * /api/me 호출을 논블로킹으로 보내고, 응답 후의 users 조회(JDBC)만 boundedElastic 스레드에서 실행한다.
+ */
+@Component
+@ConditionalOnProperty(name = "oauth.verification.mode", havingValue = "remote", matchIfMissing = true)
+public class RemoteIntrospectionTokenVerifier implements TokenVerifier {
+
+    private static final Logger log = LoggerFactory.getLogger(RemoteIntrospectionTokenVerifier.class);
+
+    private final RestTemplate restTemplate;
+    private final ObjectMapper objectMapper;
+    private final UserRepository userRepository;
+    private final MeterRegistry meterRegistry;
+    private final IntrospectionCircuitBreaker circuitBreaker;
+    private final WebClient webClient;
+
+    /** 응답 이후 users 조회(블로킹 JDBC)를 실행할 스레드 - Netty 이벤트 루프를 막지 않도록 */
+    private final Executor userLookupExecutor = task -> Schedulers.boundedElastic().schedule(task);
+
+    @Value("${oauth.server.url:http://oauth-server:3000}")
+    private String oauthServerUrl;
+
+    public RemoteIntrospectionTokenVerifier(@Qualifier("oauthRestTemplate") RestTemplate restTemplate,
+                                            UserRepository userRepository,
+                                            MeterRegistry meterRegistry,
+                                            IntrospectionCircuitBreaker circuitBreaker,
+                                            @Qualifier("oauthWebClient") ObjectProvider<WebClient> webClient) {
+        this.restTemplate = restTemplate;
+        this.objectMapper = new ObjectMapper();
+        this.userRepository = userRepository;
+        this.meterRegistry = meterRegistry;
+        this.circuitBreaker = circuitBreaker;
+        this.webClient = webClient.getIfAvailable();
+    }
+
+    @Override
+    public Optional<VerifiedToken> verify(String accessToken) {
+        String url = oauthServerUrl + "/api/me";
+        // 토큰 미리보기는 DEBUG가 켜져 있을 때만 만들어진다 (보안을 위해 일부만)
+        log.atDebug().setMessage("OAuth 토큰 검증 요청: tokenLength={}, token={}, url={}")
+                .addArgument(() -> accessToken != null ? accessToken.length() : 0)
+                .addArgument(() -> tokenPreview(accessToken))
+                .addArgument(url)
+                .log();
+
+        try {
+            // 1. OAuth 서버의 /api/me 엔드포인트 호출하여 토큰 검증 및 사용자 정보 조회
+            HttpHeaders headers = new HttpHeaders();
+            headers.set("Authorization", bearerToken(accessToken));
+            HttpEntity<String> entity = new HttpEntity<>(headers);
+
+            ResponseEntity<String> response = exchange(url, entity);
+
+            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
+                // 2~3. 이메일 추출 + users 조회
+                return toVerifiedToken(response.getBody());
+            }
+
+            log.warn("OAuth 서버 응답 이상: status={}, body={}", response.getStatusCode(), response.getBody());
+            return Optional.empty();
+        } catch (HttpClientErrorException.Unauthorized e) {
+            // 401: 만료/폐기된 토큰 → 정상적인 거절이므로 스택 트레이스 없이 DEBUG로만 남김
+            log.atDebug().setMessage("OAuth 토큰 검증 실패 (401): token={}, error={}")
+                    .addArgument(() -> tokenPreview(accessToken))
+                    .addArgument(() -> describeOAuthError(e.getResponseBodyAsString()))
+                    .log();
+            return Optional.empty();
+        } catch (OAuthServerUnavailableException e) {
+            // OAuth 서버 장애 → 호출자(OAuthTokenService)가 캐시된 검증 결과로 대체하거나 503 응답
+            throw e;
+        } catch (Exception e) {
+            // 기타 예외 (응답 파싱 실패 등)
+            log.error("OAuth 토큰 검증 실패: {} (url={})", e.getClass().getSimpleName(), url, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * OAuth 서버 /api/me 호출 (회로 차단기 경유) + 소요 시간 기록 (wheats.oauth.introspection, outcome 태그)
+     * - success: 2xx / unauthorized: 401 / error: 그 외 응답 또는 연결 실패·타임아웃
+     * - 타임아웃 / 연결 실패 / 5xx → 회로 차단기 실패로 집계하고 OAuthServerUnavailableException
+     * - 회로가 열려 있으면 호출하지 않고 바로 OAuthServerUnavailableException
+     */
+    private ResponseEntity<String> exchange(String url, HttpEntity<String> entity) {
+        if (!circuitBreaker.tryAcquire()) {
+            throw new OAuthServerUnavailableException("OAuth 서버 회로 차단 중");
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        boolean serverHealthy = false;
+        try {
+            ResponseEntity<String> response = restTemplate.exchange(url, HttpMethod.GET, entity, String.class);
+            outcome = response.getStatusCode().is2xxSuccessful() ? "success" : "error";
+            serverHealthy = true;
+            return response;
+        } catch (HttpClientErrorException e) {
+            // 4xx: 서버는 정상적으로 응답함
+            outcome = (e instanceof HttpClientErrorException.Unauthorized) ? "unauthorized" : "error";
+            serverHealthy = true;
+            throw e;
+        } catch (HttpServerErrorException e) {
+            log.error("OAuth 서버 오류 응답: status={}, url={}", e.getStatusCode(), url);
+            throw new OAuthServerUnavailableException("OAuth 서버 오류 응답: " + e.getStatusCode(), e);
+        } catch (ResourceAccessException e) {
+            // 연결 실패 / 호스트 없음 / 연결·응답·풀 대기 타임아웃
+            if (e.getCause() instanceof java.net.ConnectException) {
+                log.error("OAuth 서버에 연결할 수 없습니다. 서버가 실행 중인지 확인하세요: url={}", url, e);
+            } else if (e.getCause() instanceof java.net.UnknownHostException) {
+                log.error("OAuth 서버 호스트를 찾을 수 없습니다: url={}", url, e);
+            } else {
+                log.error("OAuth 서버 호출 실패: {} (url={})", e.getMessage(), url);
+            }
+            throw new OAuthServerUnavailableException("OAuth 서버 호출 실패", e);
+        } finally {
+            recordCall(sample, outcome, serverHealthy);
+        }
+    }
+
+    @Override
+    public boolean supportsNonBlockingVerify() {
+        return webClient != null;
+    }
+
+    /**
+     * 논블로킹 검증 (oauthWebClient가 없으면 호출 스레드에서 verify() 실행)
+     * - 회로 차단기 / 메트릭 / 실패 분류는 exchange()와 동일
+     * - 401 등 4xx → Optional.empty(), 타임아웃 / 연결 실패 / 5xx → OAuthServerUnavailableException으로 실패
+     */
+    @Override
+    public CompletableFuture<Optional<VerifiedToken>> verifyAsync(String accessToken) {
+        if (webClient == null) {
+            return TokenVerifier.super.verifyAsync(accessToken);
+        }
+        if (!circuitBreaker.tryAcquire()) {
+            return CompletableFuture.failedFuture(new OAuthServerUnavailableException("OAuth 서버 회로 차단 중"));
+        }
+
+        String url = oauthServerUrl + "/api/me";
+        Timer.Sample sample = Timer.start(meterRegistry);
+        CompletableFuture<IntrospectionResponse> call = webClient.get()
+                .uri(url)
+                .header(HttpHeaders.AUTHORIZATION, bearerToken(accessToken))
+                .exchangeToMono(response -> response.bodyToMono(String.class)
+                        .defaultIfEmpty("")
+                        .map(body -> new IntrospectionResponse(response.statusCode().value(), body)))
+                .toFuture();
+
+        return call
+                .handle((response, error) -> {
+                    if (error != null) {
+                        // 연결 실패 / 호스트 없음 / 응답·풀 대기 타임아웃
+                        recordCall(sample, "error", false);
+                        log.error("OAuth 서버 호출 실패: {} (url={})", error.getMessage(), url);
+                        throw new OAuthServerUnavailableException("OAuth 서버 호출 실패", error);
+                    }
+                    if (response.status >= 500) {
+                        recordCall(sample, "error", false);
+                        log.error("OAuth 서버 오류 응답: status={}, url={}", response.status, url);
+                        throw new OAuthServerUnavailableException("OAuth 서버 오류 응답: " + response.status);
+                    }
+                    String outcome = response.isSuccess() ? "success"
+                            : (response.status == 401) ? "unauthorized" : "error";
+                    recordCall(sample, outcome, true);
+                    return response;
+                })
+                .thenCompose(response -> {
+                    if (response.isSuccess()) {
+                        return CompletableFuture.supplyAsync(() -> toVerifiedTokenSafely(response.body, url),
+                                userLookupExecutor);
+                    }
+                    if (response.status == 401) {
+                        log.atDebug().setMessage("OAuth 토큰 검증 실패 (401): token={}, error={}")
+                                .addArgument(() -> tokenPreview(accessToken))
+                                .addArgument(() -> describeOAuthError(response.body))
+                                .log();
+                    } else {
+                        log.warn("OAuth 서버 응답 이상: status={}, body={}", response.status, response.body);
+                    }
+                    return CompletableFuture.completedFuture(Optional.empty());
+                });
+    }
+
+    /**
+     * /api/me 응답 본문 → 이메일(+ 토큰 만료 시각) 추출 → Wheats DB의 User 테이블에서 사용자 조회
+     */
+    private Optional<VerifiedToken> toVerifiedToken(String body) throws java.io.IOException {
+        JsonNode jsonNode = objectMapper.readTree(body);
+        String email = jsonNode.get("email").asText();
+
+        // 토큰 만료 시각 (Unix timestamp, 초) - 구버전 OAuth 서버는 내려주지 않을 수 있음
+        Instant tokenExpiresAt = jsonNode.hasNonNull("expires_at")
+                ? Instant.ofEpochSecond(jsonNode.get("expires_at").asLong())
+                : null;
+
+        Optional<UserEntity> userOpt = userRepository.findByEmail(email);
+
+        if (userOpt.isPresent()) {
+            log.debug("OAuth 토큰 검증 성공: email={}, userId={}", email, userOpt.get().getId());
+        } else {
+            log.warn("OAuth 토큰은 유효하지만 Wheats DB에 해당 사용자가 없음: email={}", email);
+        }
+
+        return userOpt.map(user -> new VerifiedToken(user, tokenExpiresAt));
+    }
+
+    /** verifyAsync용 - verify()와 같이 파싱/조회 실패는 Optional.empty() */
+    private Optional<VerifiedToken> toVerifiedTokenSafely(String body, String url) {
+        try {
+            return toVerifiedToken(body);
+        } catch (Exception e) {
+            log.error("OAuth 토큰 검증 실패: {} (url={})", e.getClass().getSimpleName(), url, e);
+            return Optional.empty();
+        }
+    }
+
+    /** 회로 차단기에 결과 반영 + 호출 시간 기록 */
+    private void recordCall(Timer.Sample sample, String outcome, boolean serverHealthy) {
+        if (serverHealthy) {
+            circuitBreaker.onSuccess();
+        } else {
+            circuitBreaker.onFailure();
+        }
+        sample.stop(Timer.builder("wheats.oauth.introspection")
+                .description("OAuth 서버 토큰 검증(/api/me) 호출 시간")
+                .tag("outcome", outcome)
+                .register(meterRegistry));
+    }
+
+    /** Bearer 접두사가 없으면 붙여서 Authorization 헤더 값 생성 */
+    private static String bearerToken(String accessToken) {
+        if (accessToken != null && !accessToken.startsWith("Bearer ")) {
+            return "Bearer " + accessToken;
+        }
+        return accessToken;
+    }
+
+    private static String tokenPreview(String accessToken) {
+        if (accessToken == null) {
+            return "null";
+        }
+        return accessToken.length() > 15
+                ? accessToken.substring(0, 10) + "..." + accessToken.substring(accessToken.length() - 5)
+                : accessToken;
+    }
+
+    /**
+     * OAuth 에러 응답 본문에서 error / error_description 추출 (로그용)
+     */
+    private String describeOAuthError(String body) {
+        if (body == null || body.isEmpty()) {
+            return "(empty body)";
+        }
+        try {
+            JsonNode errorNode = objectMapper.readTree(body);
+            String error = errorNode.has("error") ? errorNode.get("error").asText() : "unknown";
+            String errorDescription = errorNode.has("error_description")
+                    ? errorNode.get("error_description").asText()
+                    : "No description";
+            return error + " - " + errorDescription;
+        } catch (Exception parseEx) {
+            return body;
+        }
+    }
+
+    /** 비동기 호출 결과 (상태 코드 + 본문) */
+    private static final class IntrospectionResponse {
+        private final int status;
+        private final String body;
+
+        private IntrospectionResponse(int status, String body) {
+            this.status = status;
+            this.body = body;
+        }
+
+        private boolean isSuccess() {
+            return status >= 200 && status < 300 && !body.isEmpty();
+        }
+    }
+}
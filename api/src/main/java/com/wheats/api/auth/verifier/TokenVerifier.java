@@ -0,0 +1,44 @@
+package com.wheats.api.auth.verifier;
+
+import com.wheats.api.auth.dto.VerifiedToken;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Access Token 검증 전략
+ *
+ * oauth.verification.mode 설정으로 구현체를 선택한다.
+ * - remote (기본값): OAuth 서버 /api/me 호출 → {@link RemoteIntrospectionTokenVerifier}
+ * - local : 서명된 JWT Access Token을 API 서버 안에서 직접 검증 → {@link LocalJwtTokenVerifier}
+ */
+public interface TokenVerifier {
+
+    /**
+     * @param accessToken Access Token (Bearer 접두사 없이 전달됨)
+     * @return 토큰이 유효하고 Wheats DB에 사용자가 있으면 검증 결과
+     */
+    Optional<VerifiedToken> verify(String accessToken);
+
+    /**
+     * verifyAsync()가 호출 스레드를 막지 않는지 (false면 AsyncTokenVerificationFilter가 비동기 전환을 하지 않음)
+     */
+    default boolean supportsNonBlockingVerify() {
+        return false;
+    }
+
+    /**
+     * 비동기 검증 (oauth.introspection.async.enabled=true 일 때 AsyncTokenVerificationFilter가 사용)
+     * - 기본 구현은 호출 스레드에서 verify()를 그대로 실행 (local 모드처럼 네트워크 호출이 없는 경우)
+     *
+     * @param accessToken Access Token (Bearer 접두사 없이 전달됨)
+     * @return verify()와 같은 결과 (예외는 future를 실패로 완료)
+     */
+    default CompletableFuture<Optional<VerifiedToken>> verifyAsync(String accessToken) {
+        try {
+            return CompletableFuture.completedFuture(verify(accessToken));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+}
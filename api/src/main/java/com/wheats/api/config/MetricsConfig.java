@@ -0,0 +1,173 @@
+package com.wheats.api.config;
+
+import com.wheats.api.auth.cache.InFlightTokenVerifications;
+import com.wheats.api.auth.cache.RejectedTokenCache;
+import com.wheats.api.auth.cache.TokenIntrospectionCache;
+import com.wheats.api.auth.ratelimit.UnauthorizedRateLimiter;
+import com.wheats.api.auth.verifier.IntrospectionCircuitBreaker;
+import com.wheats.api.order.cache.ActiveCartCache;
+import com.wheats.api.store.cache.CatalogCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * 애플리케이션 전용 메트릭 설정
+ *
+ * Actuator가 기본으로 제공하는 것:
+ * - http.server.requests : 컨트롤러 엔드포인트별 지연 (application.yml에서 p50/p95/p99 + 히스토그램)
+ * - spring.data.repository.invocations : 리포지토리 메서드별 실행 시간
+ *
+ * 여기서 추가하는 것:
+ * - wheats.sql.statements(.per.request) : DB로 실행한 SQL 문 수 (Hibernate + JdbcTemplate, JDBC 수준)
+ * - 토큰 검증 캐시 / 카탈로그 캐시 / ACTIVE 장바구니 캐시 통계
+ * - 같은 토큰 동시 검증 합치기 (wheats.oauth.verifications.*)
+ * - 거절된 토큰 캐시 / 인증 실패 속도 제한 (wheats.cache.token.rejected.*, wheats.auth.unauthorized.*)
+ * - OAuth 서버 회로 차단기 상태 (커넥션 풀 현황 wheats.oauth.pool.* 은 OAuthClientConfig에서 등록)
+ * (OAuth /api/me 호출 시간 wheats.oauth.introspection 은 RemoteIntrospectionTokenVerifier에서 기록)
+ */
+@Configuration
+public class MetricsConfig {
+
+    // BeanPostProcessor가 의존하므로 static (설정 클래스보다 먼저 생성됨)
+    @Bean
+    public static SqlStatementCounter sqlStatementCounter() {
+        return new SqlStatementCounter();
+    }
+
+    /** DataSource를 SqlStatementCountingDataSource로 감싸서 JDBC 수준에서 SQL 실행 수 집계 */
+    @Bean
+    public static BeanPostProcessor sqlStatementCountingDataSourcePostProcessor(SqlStatementCounter sqlStatementCounter) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof SqlStatementCountingDataSource)) {
+                    return new SqlStatementCountingDataSource(dataSource, sqlStatementCounter);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder sqlStatementMetrics(SqlStatementCounter sqlStatementCounter) {
+        return registry -> FunctionCounter.builder("wheats.sql.statements", sqlStatementCounter,
+                        SqlStatementCounter::getTotalCount)
+                .description("DB로 실행한 SQL 문 수 (JDBC batch 1번은 1개)")
+                .register(registry);
+    }
+
+    @Bean
+    public MeterBinder tokenIntrospectionCacheMetrics(TokenIntrospectionCache cache) {
+        return registry -> {
+            FunctionCounter.builder("wheats.cache.token.hits", cache, TokenIntrospectionCache::getHitCount)
+                    .register(registry);
+            FunctionCounter.builder("wheats.cache.token.misses", cache, TokenIntrospectionCache::getMissCount)
+                    .register(registry);
+            FunctionCounter.builder("wheats.cache.token.evictions", cache, TokenIntrospectionCache::getEvictionCount)
+                    .register(registry);
+            FunctionCounter.builder("wheats.cache.token.expirations", cache, TokenIntrospectionCache::getExpiredCount)
+                    .register(registry);
+            FunctionCounter.builder("wheats.cache.token.stale.hits", cache, TokenIntrospectionCache::getStaleHitCount)
+                    .description("OAuth 서버 장애 시 이전 검증 결과로 대체한 수")
+                    .register(registry);
+            Gauge.builder("wheats.cache.token.size", cache, TokenIntrospectionCache::size)
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder inFlightTokenVerificationMetrics(InFlightTokenVerifications verifications) {
+        return registry -> {
+            FunctionCounter.builder("wheats.oauth.verifications.executed", verifications,
+                            InFlightTokenVerifications::getVerificationCount)
+                    .description("캐시 미스로 실제 실행한 토큰 검증 수")
+                    .register(registry);
+            FunctionCounter.builder("wheats.oauth.verifications.coalesced", verifications,
+                            InFlightTokenVerifications::getCoalescedCount)
+                    .description("진행 중인 같은 토큰 검증 결과를 받아 생략한 검증 수")
+                    .register(registry);
+            Gauge.builder("wheats.oauth.verifications.in.flight", verifications,
+                            InFlightTokenVerifications::inFlightCount)
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder rejectedTokenMetrics(RejectedTokenCache cache, UnauthorizedRateLimiter rateLimiter) {
+        return registry -> {
+            FunctionCounter.builder("wheats.cache.token.rejected.hits", cache, RejectedTokenCache::getHitCount)
+                    .description("거절된 토큰으로 판단해 OAuth 서버 호출 없이 401로 응답한 수")
+                    .register(registry);
+            FunctionCounter.builder("wheats.cache.token.rejected.evictions", cache, RejectedTokenCache::getEvictionCount)
+                    .register(registry);
+            Gauge.builder("wheats.cache.token.rejected.size", cache, RejectedTokenCache::size)
+                    .register(registry);
+            FunctionCounter.builder("wheats.auth.unauthorized.throttled", rateLimiter,
+                            UnauthorizedRateLimiter::getThrottledCount)
+                    .description("인증 실패가 잦아 검증 없이 429로 응답한 수")
+                    .register(registry);
+            FunctionCounter.builder("wheats.auth.unauthorized.untracked", rateLimiter,
+                            UnauthorizedRateLimiter::getUntrackedCount)
+                    .register(registry);
+            Gauge.builder("wheats.auth.unauthorized.clients", rateLimiter,
+                            UnauthorizedRateLimiter::trackedClientCount)
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder catalogCacheMetrics(CatalogCache cache) {
+        return registry -> {
+            FunctionCounter.builder("wheats.cache.catalog.hits", cache, CatalogCache::getHitCount)
+                    .register(registry);
+            FunctionCounter.builder("wheats.cache.catalog.misses", cache, CatalogCache::getMissCount)
+                    .register(registry);
+            FunctionCounter.builder("wheats.cache.catalog.loads", cache, CatalogCache::getLoadCount)
+                    .register(registry);
+            FunctionCounter.builder("wheats.cache.catalog.invalidations", cache, CatalogCache::getInvalidationCount)
+                    .register(registry);
+            Gauge.builder("wheats.cache.catalog.staleness.seconds", cache, CatalogCache::getStalenessSeconds)
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder activeCartCacheMetrics(ActiveCartCache cache) {
+        return registry -> {
+            FunctionCounter.builder("wheats.cache.cart.hits", cache, ActiveCartCache::getHitCount)
+                    .register(registry);
+            FunctionCounter.builder("wheats.cache.cart.misses", cache, ActiveCartCache::getMissCount)
+                    .register(registry);
+            FunctionCounter.builder("wheats.cache.cart.writes", cache, ActiveCartCache::getWriteCount)
+                    .register(registry);
+            FunctionCounter.builder("wheats.cache.cart.invalidations", cache, ActiveCartCache::getInvalidationCount)
+                    .register(registry);
+        };
+    }
+
+    /** OAuth 서버 회로 차단기 상태 (0=CLOSED, 1=HALF_OPEN, 2=OPEN) */
+    @Bean
+    public MeterBinder introspectionCircuitBreakerMetrics(IntrospectionCircuitBreaker circuitBreaker) {
+        return registry -> {
+            Gauge.builder("wheats.oauth.circuit.state", circuitBreaker, cb -> switch (cb.getState()) {
+                        case CLOSED -> 0;
+                        case HALF_OPEN -> 1;
+                        case OPEN -> 2;
+                    })
+                    .register(registry);
+            FunctionCounter.builder("wheats.oauth.circuit.rejections", circuitBreaker,
+                            IntrospectionCircuitBreaker::getRejectedCount)
+                    .register(registry);
+            FunctionCounter.builder("wheats.oauth.circuit.opens", circuitBreaker,
+                            IntrospectionCircuitBreaker::getOpenCount)
+                    .register(registry);
+        };
+    }
+}
@@ -0,0 +1,141 @@
+package com.wheats.api.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.netty.channel.ChannelOption;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+/**
+ * OAuth 서버 토큰 검증(/api/me) 전용 HTTP 클라이언트 (oauth.verification.mode=remote)
+ *
+ * - 커넥션 풀: 최대 pool-max-connections 개, keep-alive로 재사용 (요청마다 TCP 연결을 새로 맺지 않음)
+ * - 타임아웃: 연결 / 응답 / 풀에서 커넥션 대기 모두 상한을 둔다
+ *   → OAuth 서버가 느려져도 톰캣 워커가 무한정 묶이지 않음 (실패는 IntrospectionCircuitBreaker가 집계)
+ * - 자동 재시도 없음 (재시도는 느린 서버에 부하만 더함)
+ *
+ * oauth.introspection.async.enabled=true 면 같은 설정으로 논블로킹 WebClient(Reactor Netty)도 만든다.
+ * (AsyncTokenVerificationFilter가 사용 - 응답을 기다리는 동안 톰캣 워커를 점유하지 않음)
+ */
+@Configuration
+@ConditionalOnProperty(name = "oauth.verification.mode", havingValue = "remote", matchIfMissing = true)
+public class OAuthClientConfig {
+
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager oauthConnectionManager(
+            @Value("${oauth.introspection.client.pool-max-connections:50}") int maxConnections,
+            @Value("${oauth.introspection.client.connect-timeout-ms:500}") long connectTimeoutMs,
+            @Value("${oauth.introspection.client.read-timeout-ms:2000}") long readTimeoutMs,
+            @Value("${oauth.introspection.client.max-connection-lifetime-seconds:300}") long maxLifetimeSeconds) {
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                // OAuth 서버 한 곳만 호출하므로 전체 = 라우트당 상한
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnections)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                        .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .setTimeToLive(TimeValue.ofSeconds(maxLifetimeSeconds))
+                        // 한동안 쉬었던 커넥션은 재사용 전에 끊겼는지 확인
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                        .build())
+                .build();
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient oauthHttpClient(
+            PoolingHttpClientConnectionManager oauthConnectionManager,
+            @Value("${oauth.introspection.client.read-timeout-ms:2000}") long readTimeoutMs,
+            @Value("${oauth.introspection.client.pool-wait-timeout-ms:200}") long poolWaitTimeoutMs,
+            @Value("${oauth.introspection.client.keep-alive-seconds:30}") long keepAliveSeconds) {
+        return HttpClients.custom()
+                .setConnectionManager(oauthConnectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(poolWaitTimeoutMs))
+                        .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .build())
+                // 서버가 Keep-Alive 시간을 알려주지 않아도 keep-alive-seconds 동안은 재사용
+                .setKeepAliveStrategy((response, context) -> TimeValue.ofSeconds(keepAliveSeconds))
+                .evictIdleConnections(TimeValue.ofSeconds(keepAliveSeconds))
+                .evictExpiredConnections()
+                .disableAutomaticRetries()
+                .build();
+    }
+
+    @Bean
+    public RestTemplate oauthRestTemplate(CloseableHttpClient oauthHttpClient) {
+        return new RestTemplate(new HttpComponentsClientHttpRequestFactory(oauthHttpClient));
+    }
+
+    /**
+     * 논블로킹 /api/me 호출용 커넥션 풀 (Reactor Netty)
+     * - 풀 현황은 reactor.netty.connection.provider.* 메트릭으로 노출 (metrics(true))
+     */
+    @Bean(destroyMethod = "dispose")
+    @ConditionalOnProperty(name = "oauth.introspection.async.enabled", havingValue = "true")
+    public ConnectionProvider oauthReactiveConnectionProvider(
+            @Value("${oauth.introspection.client.pool-max-connections:50}") int maxConnections,
+            @Value("${oauth.introspection.client.pool-wait-timeout-ms:200}") long poolWaitTimeoutMs,
+            @Value("${oauth.introspection.client.keep-alive-seconds:30}") long keepAliveSeconds,
+            @Value("${oauth.introspection.client.max-connection-lifetime-seconds:300}") long maxLifetimeSeconds) {
+        return ConnectionProvider.builder("oauth-introspection")
+                .maxConnections(maxConnections)
+                .pendingAcquireTimeout(Duration.ofMillis(poolWaitTimeoutMs))
+                .maxIdleTime(Duration.ofSeconds(keepAliveSeconds))
+                .maxLifeTime(Duration.ofSeconds(maxLifetimeSeconds))
+                .evictInBackground(Duration.ofSeconds(keepAliveSeconds))
+                .metrics(true)
+                .build();
+    }
+
+    /**
+     * 논블로킹 /api/me 호출용 WebClient (타임아웃 값은 RestTemplate과 같은 설정 사용)
+     */
+    @Bean
+    @ConditionalOnProperty(name = "oauth.introspection.async.enabled", havingValue = "true")
+    public WebClient oauthWebClient(
+            ConnectionProvider oauthReactiveConnectionProvider,
+            @Value("${oauth.introspection.client.connect-timeout-ms:500}") int connectTimeoutMs,
+            @Value("${oauth.introspection.client.read-timeout-ms:2000}") long readTimeoutMs) {
+        HttpClient httpClient = HttpClient.create(oauthReactiveConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
+                .responseTimeout(Duration.ofMillis(readTimeoutMs));
+
+        return WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+
+    /** 풀 사용 현황 (leased=사용 중, pending=커넥션 대기 중인 요청 수) */
+    @Bean
+    public MeterBinder oauthConnectionPoolMetrics(PoolingHttpClientConnectionManager oauthConnectionManager) {
+        return registry -> {
+            Gauge.builder("wheats.oauth.pool.leased", oauthConnectionManager,
+                            cm -> cm.getTotalStats().getLeased())
+                    .register(registry);
+            Gauge.builder("wheats.oauth.pool.available", oauthConnectionManager,
+                            cm -> cm.getTotalStats().getAvailable())
+                    .register(registry);
+            Gauge.builder("wheats.oauth.pool.pending", oauthConnectionManager,
+                            cm -> cm.getTotalStats().getPending())
+                    .register(registry);
+        };
+    }
+}
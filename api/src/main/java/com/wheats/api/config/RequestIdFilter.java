@@ -0,0 +1,63 @@
+package com.wheats.api.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * 요청 상관관계 ID 필터
+ *
+ * - 클라이언트가 보낸 X-Request-Id가 있으면 그대로 쓰고, 없거나 형식이 이상하면 새로 만든다
+ * - MDC("requestId")에 넣어 두면 이 요청에서 찍히는 모든 로그에 같은 ID가 붙는다 (logback-spring.xml 패턴)
+ * - 응답 헤더에도 같은 ID를 내려보내 클라이언트 로그와 맞춰 볼 수 있게 한다
+ * - 비동기 처리 후 다시 디스패치(ASYNC)된 요청에도 같은 ID를 MDC에 넣는다 (AsyncTokenVerificationFilter)
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestIdFilter extends OncePerRequestFilter {
+
+    public static final String REQUEST_ID_HEADER = "X-Request-Id";
+    public static final String MDC_KEY = "requestId";
+    private static final String REQUEST_ID_ATTRIBUTE = RequestIdFilter.class.getName() + ".REQUEST_ID";
+
+    // 로그 위조 방지: 영문/숫자/-/_ 만, 최대 64자
+    private static final Pattern VALID_REQUEST_ID = Pattern.compile("[A-Za-z0-9_-]{1,64}");
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String requestId = (String) request.getAttribute(REQUEST_ID_ATTRIBUTE);
+        if (requestId == null) {
+            requestId = request.getHeader(REQUEST_ID_HEADER);
+            if (requestId == null || !VALID_REQUEST_ID.matcher(requestId).matches()) {
+                requestId = UUID.randomUUID().toString();
+            }
+            request.setAttribute(REQUEST_ID_ATTRIBUTE, requestId);
+            response.setHeader(REQUEST_ID_HEADER, requestId);
+        }
+
+        MDC.put(MDC_KEY, requestId);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            // 스레드 풀 재사용 시 다른 요청으로 ID가 새지 않도록 반드시 제거
+            MDC.remove(MDC_KEY);
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+}
@@ -0,0 +1,44 @@
+package com.wheats.api.config;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * DB로 실행한 SQL 문 수 집계 (JDBC 수준, SqlStatementCountingDataSource가 호출)
+ *
+ * - Hibernate 쿼리와 JdbcTemplate로 직접 실행하는 SQL(주문 아이템 batch INSERT 등)을 모두 센다
+ * - 세는 단위는 DB 왕복: execute* 호출 1번 = 1, executeBatch 1번 = 1 (batch에 담긴 행 수와 무관)
+ *   → 아이템 수만큼 INSERT가 따로 나가는 회귀가 생기면 수가 바로 늘어난다
+ * - 전체 누적: wheats.sql.statements (MetricsConfig에서 등록)
+ * - 요청 단위: begin() ~ end() 사이에 같은 스레드에서 실행된 SQL 수 → SqlStatementMetricsFilter가 기록
+ */
+public class SqlStatementCounter {
+
+    private final LongAdder totalStatements = new LongAdder();
+    private final ThreadLocal<int[]> currentRequest = new ThreadLocal<>();
+
+    /** SQL 1번 실행 */
+    void increment() {
+        totalStatements.increment();
+        int[] count = currentRequest.get();
+        if (count != null) {
+            count[0]++;
+        }
+    }
+
+    /** 현재 스레드에서 요청 단위 집계 시작 */
+    public void begin() {
+        currentRequest.set(new int[1]);
+    }
+
+    /** 요청 단위 집계 종료 후 그동안 실행된 SQL 수 반환 */
+    public int end() {
+        int[] count = currentRequest.get();
+        currentRequest.remove();
+        return count != null ? count[0] : 0;
+    }
+
+    /** 시작 후 실행된 전체 SQL 수 */
+    public long getTotalCount() {
+        return totalStatements.sum();
+    }
+}
@@ -0,0 +1,79 @@
+package com.wheats.api.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+
+/**
+ * SQL 실행 수를 세는 DataSource 래퍼
+ *
+ * Connection → Statement/PreparedStatement/CallableStatement 를 JDK 동적 프록시로 감싸서
+ * execute* 호출마다 SqlStatementCounter를 1 올린다.
+ * Hibernate와 JdbcTemplate 모두 이 DataSource에서 커넥션을 얻으므로 어느 쪽 SQL이든 빠짐없이 집계된다.
+ * (DelegatingDataSource라서 Actuator/Hikari 메트릭은 getTargetDataSource()로 원래 풀을 찾는다)
+ */
+public class SqlStatementCountingDataSource extends DelegatingDataSource {
+
+    // addBatch()는 DB 왕복이 아니므로 세지 않음
+    private static final Set<String> EXECUTE_METHODS = Set.of(
+            "execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+
+    private static final Set<String> STATEMENT_FACTORY_METHODS = Set.of(
+            "createStatement", "prepareStatement", "prepareCall");
+
+    private final SqlStatementCounter counter;
+
+    public SqlStatementCountingDataSource(DataSource targetDataSource, SqlStatementCounter counter) {
+        super(targetDataSource);
+        this.counter = counter;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrapConnection(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrapConnection(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private Connection wrapConnection(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {Connection.class},
+                (proxy, method, args) -> {
+                    Object result = invoke(connection, method, args);
+                    if (result instanceof Statement && STATEMENT_FACTORY_METHODS.contains(method.getName())) {
+                        // createStatement → Statement, prepareStatement → PreparedStatement, prepareCall → CallableStatement
+                        return wrapStatement(result, method.getReturnType());
+                    }
+                    return result;
+                });
+    }
+
+    private Object wrapStatement(Object statement, Class<?> statementType) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            if (EXECUTE_METHODS.contains(method.getName())) {
+                counter.increment();
+            }
+            return invoke(statement, method, args);
+        };
+        return Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {statementType}, handler);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            // SQLException 등 원래 예외를 그대로 전달
+            throw e.getTargetException();
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.wheats.api.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * 요청당 SQL 문 수를 엔드포인트별 분포(wheats.sql.statements.per.request)로 기록
+ * - uri 태그는 http.server.requests와 같은 매핑 패턴 (/api/orders/{orderId} 등) → 태그 수가 무한히 늘지 않음
+ * - N+1 쿼리가 생기면 해당 엔드포인트의 p95/max 값이 바로 튀어 오른다
+ * - 비동기 처리로 넘어간 요청은 다시 디스패치(ASYNC)되어 컨트롤러까지 실행된 쪽에서만 기록
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class SqlStatementMetricsFilter extends OncePerRequestFilter {
+
+    private final SqlStatementCounter sqlStatementCounter;
+    private final MeterRegistry meterRegistry;
+
+    public SqlStatementMetricsFilter(SqlStatementCounter sqlStatementCounter, MeterRegistry meterRegistry) {
+        this.sqlStatementCounter = sqlStatementCounter;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        sqlStatementCounter.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            int statements = sqlStatementCounter.end();
+            // 인증 비동기 검증 중이면 컨트롤러는 ASYNC 디스패치에서 실행되므로 그때 기록
+            if (!isAsyncStarted(request)) {
+                record(request, statements);
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, int statements) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+
+        DistributionSummary.builder("wheats.sql.statements.per.request")
+                .description("요청 하나를 처리하는 동안 실행된 SQL 문 수")
+                .tag("method", request.getMethod())
+                .tag("uri", pattern != null ? pattern.toString() : "UNKNOWN")
+                .register(meterRegistry)
+                .record(statements);
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        // 스크랩 요청 자체는 집계하지 않음
+        return request.getRequestURI().startsWith("/actuator");
+    }
+}
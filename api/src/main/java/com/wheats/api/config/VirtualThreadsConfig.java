@@ -0,0 +1,35 @@
+package com.wheats.api.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * 가상 스레드 프로필 점검 (SPRING_PROFILES_ACTIVE=...,virtual)
+ *
+ * spring.threads.virtual.enabled 는 Java 21 미만 런타임에서는 조용히 무시되고 톰캣이 플랫폼 스레드 풀로 뜬다.
+ * 설정만 보고 가상 스레드로 돌고 있다고 착각하지 않도록, virtual 프로필인데 조건이 맞지 않으면 기동을 중단한다.
+ */
+@Configuration
+@Profile("virtual")
+public class VirtualThreadsConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadsConfig.class);
+
+    private static final int MIN_JAVA_VERSION = 21;
+
+    public VirtualThreadsConfig(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreadsEnabled,
+                                @Value("${spring.datasource.hikari.maximum-pool-size:10}") int dbPoolSize) {
+        int javaVersion = Runtime.version().feature();
+        if (javaVersion < MIN_JAVA_VERSION) {
+            throw new IllegalStateException("virtual 프로필은 Java " + MIN_JAVA_VERSION
+                    + " 이상 런타임이 필요합니다 (현재 Java " + javaVersion + ")");
+        }
+        if (!virtualThreadsEnabled) {
+            throw new IllegalStateException("virtual 프로필인데 spring.threads.virtual.enabled=false 입니다");
+        }
+        log.info("가상 스레드로 요청 처리 (Java {}, DB 커넥션 풀 {})", javaVersion, dbPoolSize);
+    }
+}
@@ -8,6 +8,13 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
+    /** 인증이 필요한 경로 (AsyncTokenVerificationFilter도 같은 경로를 사용) */
+    public static final String AUTH_PATH_PATTERN = "/api/**";
+    public static final String[] PUBLIC_PATH_PATTERNS = {
+            "/api/stores",            // 가게 목록은 공개
+            "/api/stores/**"          // 가게 상세 정보도 공개
+    };
+
     private final AuthInterceptor authInterceptor;
 
     public WebConfig(AuthInterceptor authInterceptor) {
@@ -17,10 +24,7 @@ public class WebConfig implements WebMvcConfigurer {
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
         registry.addInterceptor(authInterceptor)
-                .addPathPatterns("/api/**")
-                .excludePathPatterns(
-                        "/api/stores",            // 가게 목록은 공개
-                        "/api/stores/**"          // 가게 상세 정보도 공개
-                );
+                .addPathPatterns(AUTH_PATH_PATTERN)
+                .excludePathPatterns(PUBLIC_PATH_PATTERNS);
     }
 }
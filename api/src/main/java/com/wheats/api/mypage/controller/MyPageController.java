@@ -3,13 +3,12 @@ package com.wheats.api.mypage.controller;
 import com.wheats.api.auth.util.AuthContext;
 import com.wheats.api.mypage.dto.MyPageProfileResponse;
 import com.wheats.api.mypage.dto.MyPageResponse;
-import com.wheats.api.mypage.dto.OrderHistoryItemResponse;
+import com.wheats.api.mypage.dto.OrderHistoryPageResponse;
 import com.wheats.api.mypage.service.MyPageService;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/api/users")
 public class MyPageController {
@@ -44,14 +43,22 @@ public class MyPageController {
     }
 
     /**
-     * 전체 주문 내역 조회
-     * GET /api/users/me/orders
+     * 주문 내역 조회 (keyset 페이지네이션, 최신 주문부터)
+     * GET /api/users/me/orders?size=20&cursor=...
+     * - 응답: { items, nextCursor, hasNext } → 다음 페이지는 cursor=nextCursor
      */
     @GetMapping("/me/orders")
-    public ResponseEntity<List<OrderHistoryItemResponse>> getAllOrderHistory() {
+    public ResponseEntity<OrderHistoryPageResponse> getOrderHistory(
+            @RequestParam(value = "size", defaultValue = "" + MyPageService.DEFAULT_ORDER_PAGE_SIZE) int size,
+            @RequestParam(value = "cursor", required = false) String cursor) {
         Long userId = AuthContext.getCurrentUserId();
 
-        List<OrderHistoryItemResponse> response = myPageService.getAllOrderHistory(userId);
-        return ResponseEntity.ok(response);
+        try {
+            OrderHistoryPageResponse response = myPageService.getOrderHistoryPage(userId, cursor, size);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            // 잘못된 커서
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
     }
 }
@@ -0,0 +1,52 @@
+package com.wheats.api.mypage.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 주문 내역 keyset 커서 (마지막으로 받은 주문의 정렬 키)
+ * - 정렬: created_at 내림차순 → id 내림차순
+ * - 다음 페이지 = (created_at, id) 가 커서보다 "작은" 주문
+ * 클라이언트에는 URL-safe Base64 문자열로 전달 (형식은 클라이언트가 해석하지 않음)
+ */
+public final class OrderHistoryCursor {
+
+    private final LocalDateTime createdAt;
+    private final long orderId;
+
+    public OrderHistoryCursor(LocalDateTime createdAt, long orderId) {
+        this.createdAt = createdAt;
+        this.orderId = orderId;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public long getOrderId() {
+        return orderId;
+    }
+
+    public String encode() {
+        String raw = createdAt + "|" + orderId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException 형식이 잘못된 커서
+     */
+    public static OrderHistoryCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length == 2) {
+                return new OrderHistoryCursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+            }
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            // Base64/날짜/숫자 형식 오류 → 아래에서 한 번에 처리
+        }
+        throw new IllegalArgumentException("Invalid cursor: " + cursor);
+    }
+}
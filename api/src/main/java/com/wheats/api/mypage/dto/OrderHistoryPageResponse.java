@@ -0,0 +1,26 @@
+package com.wheats.api.mypage.dto;
+
+import java.util.List;
+
+/**
+ * 주문 내역 페이지 응답 (keyset 커서 방식, 최신 주문부터)
+ * - 다음 페이지는 nextCursor를 cursor 파라미터로 넘겨서 요청
+ */
+public class OrderHistoryPageResponse {
+
+    private List<OrderHistoryItemResponse> items;
+    private String nextCursor;   // 마지막 페이지면 null
+    private boolean hasNext;
+
+    public OrderHistoryPageResponse(List<OrderHistoryItemResponse> items, String nextCursor, boolean hasNext) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+    }
+
+    public List<OrderHistoryItemResponse> getItems() { return items; }
+
+    public String getNextCursor() { return nextCursor; }
+
+    public boolean isHasNext() { return hasNext; }
+}
@@ -2,6 +2,9 @@ package com.wheats.api.mypage.repository;
 
 import com.wheats.api.mypage.entity.UserEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -12,4 +15,15 @@ public interface UserRepository extends JpaRepository<UserEntity, Long> {
      * @return 사용자 엔티티 (Optional)
      */
     java.util.Optional<UserEntity> findByEmail(String email);
+
+    /**
+     * 포인트 조건부 차감 (잔액 확인 + 차감을 UPDATE 한 문장으로 처리)
+     * - 동시에 여러 주문이 들어와도 DB 행 잠금 안에서 조건을 다시 평가하므로 잔액이 음수가 되지 않음
+     * @param userId 사용자 ID
+     * @param amount 차감할 포인트
+     * @return 변경된 행 수 (1: 차감 성공, 0: 잔액 부족 또는 사용자 없음)
+     */
+    @Modifying
+    @Query("UPDATE UserEntity u SET u.point = u.point - :amount WHERE u.id = :userId AND u.point >= :amount")
+    int deductPoint(@Param("userId") Long userId, @Param("amount") int amount);
 }
@@ -2,19 +2,16 @@ package com.wheats.api.mypage.service;
 
 import com.wheats.api.mypage.dto.MyPageProfileResponse;
 import com.wheats.api.mypage.dto.MyPageResponse;
+import com.wheats.api.mypage.dto.OrderHistoryCursor;
 import com.wheats.api.mypage.dto.OrderHistoryItemResponse;
+import com.wheats.api.mypage.dto.OrderHistoryPageResponse;
 import com.wheats.api.mypage.entity.UserEntity;
 import com.wheats.api.mypage.repository.UserRepository;
-import com.wheats.api.order.entity.OrderEntity;
-import com.wheats.api.order.entity.OrderItemEntity;
+import com.wheats.api.order.dto.OrderHistoryRow;
 import com.wheats.api.order.entity.OrderStatus;
-import com.wheats.api.order.repository.OrderItemRepository;
 import com.wheats.api.order.repository.OrderRepository;
-import com.wheats.api.store.entity.MenuEntity;
-import com.wheats.api.store.entity.StoreEntity;
-import com.wheats.api.store.repository.MenuRepository;
-import com.wheats.api.store.repository.StoreRepository;
 import jakarta.persistence.EntityNotFoundException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,22 +21,17 @@ import java.util.List;
 @Service
 public class MyPageService {
 
+    public static final int RECENT_ORDER_COUNT = 3;
+    public static final int DEFAULT_ORDER_PAGE_SIZE = 20;
+    public static final int MAX_ORDER_PAGE_SIZE = 100;
+
     private final UserRepository userRepository;
     private final OrderRepository orderRepository;
-    private final OrderItemRepository orderItemRepository;
-    private final StoreRepository storeRepository;
-    private final MenuRepository menuRepository;
 
     public MyPageService(UserRepository userRepository,
-                         OrderRepository orderRepository,
-                         OrderItemRepository orderItemRepository,
-                         StoreRepository storeRepository,
-                         MenuRepository menuRepository) {
+                         OrderRepository orderRepository) {
         this.userRepository = userRepository;
         this.orderRepository = orderRepository;
-        this.orderItemRepository = orderItemRepository;
-        this.storeRepository = storeRepository;
-        this.menuRepository = menuRepository;
     }
 
     /**
@@ -60,35 +52,10 @@ public class MyPageService {
         UserEntity user = userRepository.findById(userId)
                 .orElseThrow(() -> new EntityNotFoundException("User not found. id=" + userId));
 
-        // 최근 주문 내역 조회 (최대 3개)
-        List<OrderEntity> orders = orderRepository.findByUserIdOrderByCreatedAtDesc(userId);
+        // 최근 주문 내역 (최대 3개) - orders 행의 주문 요약만으로, LIMIT 3까지 SQL에서 처리
         List<OrderHistoryItemResponse> orderHistory = new ArrayList<>();
-
-        int count = 0;
-        for (OrderEntity order : orders) {
-            if (count >= 3) break;
-
-            // 가게 정보 조회
-            StoreEntity store = storeRepository.findById(order.getStoreId())
-                    .orElse(null);
-            String storeName = (store != null) ? store.getName() : "(삭제된 가게)";
-
-            // 주문 아이템 조회하여 상품 설명 생성
-            List<OrderItemEntity> orderItems = orderItemRepository.findByOrderId(order.getId());
-            String itemDescription = buildItemDescription(orderItems);
-
-            // 주문 상태를 한글로 변환
-            String status = convertOrderStatusToKorean(order.getStatus());
-
-            orderHistory.add(new OrderHistoryItemResponse(
-                    order.getId(),
-                    storeName,
-                    itemDescription,
-                    order.getCreatedAt(),
-                    order.getTotalPrice(),
-                    status
-            ));
-            count++;
+        for (OrderHistoryRow row : orderRepository.findOrderHistory(userId, PageRequest.of(0, RECENT_ORDER_COUNT))) {
+            orderHistory.add(toOrderHistoryItem(row));
         }
 
         return new MyPageResponse(
@@ -100,60 +67,70 @@ public class MyPageService {
     }
 
     /**
-     * 주문 아이템 목록으로부터 상품 설명 문자열 생성
+     * 주문 첫 메뉴 이름 + 아이템 수로 상품 설명 문자열 생성
      * 예: "싸이버거 세트 외 1개"
+     * - JMH 벤치마크(src/jmh)에서 직접 호출하므로 package-private
      */
-    private String buildItemDescription(List<OrderItemEntity> orderItems) {
-        if (orderItems.isEmpty()) {
+    String buildItemDescription(String firstMenuName, long itemCount) {
+        if (itemCount == 0) {
             return "주문 내역 없음";
         }
 
-        // 첫 번째 메뉴 조회
-        OrderItemEntity firstItem = orderItems.get(0);
-        MenuEntity firstMenu = menuRepository.findById(firstItem.getMenuId())
-                .orElse(null);
-        String firstMenuName = (firstMenu != null) ? firstMenu.getName() : "(삭제된 메뉴)";
-
-        if (orderItems.size() == 1) {
-            return firstMenuName;
+        String menuName = (firstMenuName != null) ? firstMenuName : "(삭제된 메뉴)";
+        if (itemCount == 1) {
+            return menuName;
         } else {
-            int otherCount = orderItems.size() - 1;
-            return firstMenuName + " 외 " + otherCount + "개";
+            long otherCount = itemCount - 1;
+            return menuName + " 외 " + otherCount + "개";
         }
     }
 
     /**
-     * 전체 주문 내역 조회 (제한 없음)
+     * 주문 내역 페이지 조회 (keyset 페이지네이션, 최신 주문부터)
+     * - 페이지마다 쿼리 1번: (created_at, id) 커서 이후 size+1건을 조회해서 다음 페이지 유무 판단
+     * @param cursor 이전 페이지 응답의 nextCursor (null/빈 값이면 첫 페이지)
+     * @param size 페이지 크기 (1 ~ MAX_ORDER_PAGE_SIZE 로 보정)
+     * @throws IllegalArgumentException 잘못된 커서
      */
     @Transactional(readOnly = true)
-    public List<OrderHistoryItemResponse> getAllOrderHistory(Long userId) {
-        List<OrderEntity> orders = orderRepository.findByUserIdOrderByCreatedAtDesc(userId);
-        List<OrderHistoryItemResponse> orderHistory = new ArrayList<>();
+    public OrderHistoryPageResponse getOrderHistoryPage(Long userId, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_ORDER_PAGE_SIZE));
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
 
-        for (OrderEntity order : orders) {
-            // 가게 정보 조회
-            StoreEntity store = storeRepository.findById(order.getStoreId())
-                    .orElse(null);
-            String storeName = (store != null) ? store.getName() : "(삭제된 가게)";
-
-            // 주문 아이템 조회하여 상품 설명 생성
-            List<OrderItemEntity> orderItems = orderItemRepository.findByOrderId(order.getId());
-            String itemDescription = buildItemDescription(orderItems);
-
-            // 주문 상태를 한글로 변환
-            String status = convertOrderStatusToKorean(order.getStatus());
-
-            orderHistory.add(new OrderHistoryItemResponse(
-                    order.getId(),
-                    storeName,
-                    itemDescription,
-                    order.getCreatedAt(),
-                    order.getTotalPrice(),
-                    status
-            ));
+        List<OrderHistoryRow> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = orderRepository.findOrderHistory(userId, limit);
+        } else {
+            OrderHistoryCursor after = OrderHistoryCursor.decode(cursor);
+            rows = orderRepository.findOrderHistoryAfter(userId, after.getCreatedAt(), after.getOrderId(), limit);
         }
 
-        return orderHistory;
+        boolean hasNext = rows.size() > pageSize;
+        List<OrderHistoryItemResponse> items = new ArrayList<>();
+        for (OrderHistoryRow row : hasNext ? rows.subList(0, pageSize) : rows) {
+            items.add(toOrderHistoryItem(row));
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            OrderHistoryRow last = rows.get(pageSize - 1);
+            nextCursor = new OrderHistoryCursor(last.getCreatedAt(), last.getOrderId()).encode();
+        }
+        return new OrderHistoryPageResponse(items, nextCursor, hasNext);
+    }
+
+    /** 주문 내역 행 → 응답 DTO */
+    private OrderHistoryItemResponse toOrderHistoryItem(OrderHistoryRow row) {
+        String storeName = (row.getStoreName() != null) ? row.getStoreName() : "(삭제된 가게)";
+
+        return new OrderHistoryItemResponse(
+                row.getOrderId(),
+                storeName,
+                buildItemDescription(row.getFirstMenuName(), row.getItemCount()),
+                row.getCreatedAt(),
+                row.getTotalPrice(),
+                convertOrderStatusToKorean(row.getStatus())
+        );
     }
 
     /**
@@ -0,0 +1,120 @@
+package com.wheats.api.order.cache;
+
+import com.wheats.api.order.dto.CartItemResponse;
+import com.wheats.api.order.dto.CartResponse;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 사용자별 ACTIVE 장바구니 스냅샷 (불변)
+ * - 장바구니 id / 가게 / 아이템 라인만 보관 → 장바구니 조회를 DB 없이 응답
+ * - 라인의 메뉴 이름/단가는 카탈로그에서 온 값이므로, 만들 당시의 카탈로그 내용 해시를 함께 보관
+ *   (ActiveCartCache가 현재 해시와 다르면 미스로 처리 → 가격 변경 후 예전 금액을 보여주지 않음)
+ *   카탈로그 버전 번호는 프로세스마다 0부터 세므로, 공유 저장소에서는 인스턴스 간에 비교할 수 없어 쓰지 않음
+ * - 분산 캐시 백엔드에 저장될 수 있으므로 Serializable
+ */
+public final class ActiveCart implements Serializable {
+
+    private static final long serialVersionUID = 3L;
+
+    private final Long userId;
+    private final Long cartId;
+    private final Long storeId;
+    private final String storeName;
+    private final List<Line> lines;
+    private final String catalogHash;
+
+    private ActiveCart(Long userId, Long cartId, Long storeId, String storeName, List<Line> lines,
+                       String catalogHash) {
+        this.userId = userId;
+        this.cartId = cartId;
+        this.storeId = storeId;
+        this.storeName = storeName;
+        this.lines = Collections.unmodifiableList(lines);
+        this.catalogHash = catalogHash;
+    }
+
+    /**
+     * 장바구니 응답으로부터 스냅샷 생성 (응답을 만들 때 이미 조회한 값을 그대로 사용)
+     * @param catalogHash 응답을 만들기 위해 DB를 조회하기 전의 카탈로그 내용 해시
+     */
+    public static ActiveCart from(Long userId, CartResponse response, String catalogHash) {
+        List<Line> lines = new ArrayList<>(response.getItems().size());
+        for (CartItemResponse item : response.getItems()) {
+            lines.add(new Line(item.getCartItemId(), item.getMenuId(), item.getMenuName(),
+                    item.getQuantity(), item.getUnitPrice()));
+        }
+        return new ActiveCart(userId, response.getCartId(), response.getStoreId(), response.getStoreName(), lines,
+                catalogHash);
+    }
+
+    /**
+     * 스냅샷 → 장바구니 응답 (라인 금액/총액은 다시 계산)
+     */
+    public CartResponse toResponse() {
+        List<CartItemResponse> items = new ArrayList<>(lines.size());
+        int totalPrice = 0;
+        for (Line line : lines) {
+            int linePrice = line.unitPrice * line.quantity;
+            items.add(new CartItemResponse(line.cartItemId, line.menuId, line.menuName,
+                    line.quantity, line.unitPrice, linePrice));
+            totalPrice += linePrice;
+        }
+        return new CartResponse(cartId, storeId, storeName, items, totalPrice);
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public Long getCartId() {
+        return cartId;
+    }
+
+    public Long getStoreId() {
+        return storeId;
+    }
+
+    public List<Line> getLines() {
+        return lines;
+    }
+
+    public String getCatalogHash() {
+        return catalogHash;
+    }
+
+    /** 장바구니 아이템 1줄 */
+    public static final class Line implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Long cartItemId;
+        private final Long menuId;
+        private final String menuName;
+        private final int quantity;
+        private final int unitPrice;
+
+        private Line(Long cartItemId, Long menuId, String menuName, int quantity, int unitPrice) {
+            this.cartItemId = cartItemId;
+            this.menuId = menuId;
+            this.menuName = menuName;
+            this.quantity = quantity;
+            this.unitPrice = unitPrice;
+        }
+
+        public Long getCartItemId() {
+            return cartItemId;
+        }
+
+        public Long getMenuId() {
+            return menuId;
+        }
+
+        public int getQuantity() {
+            return quantity;
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.wheats.api.order.cache;
+
+import com.wheats.api.store.service.StoreService;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 사용자별 ACTIVE 장바구니 write-through 캐시
+ *
+ * - 읽기: 캐시 히트 시 "최근 ACTIVE 장바구니" ORDER BY 조회와 장바구니 라인 조회를 모두 생략
+ * - 쓰기: 장바구니를 바꾼 트랜잭션이 커밋된 뒤에 최종 스냅샷을 저장
+ *         (같은 트랜잭션 안의 여러 번 쓰기는 사용자별 마지막 값 하나로 합쳐서 커밋 후 한 번만 반영)
+ * - 무효화: 주문 생성 / 다른 가게로 강제 교체 시 즉시 제거 + 커밋 후 한 번 더 제거
+ * - 카탈로그(가게/메뉴)가 바뀌면 스냅샷의 메뉴 이름/단가가 낡으므로, 카탈로그 내용 해시가 다른 스냅샷은 미스로 처리
+ *   (해시는 인스턴스와 관계없이 내용으로 정해지므로 ActiveCartStore를 여러 인스턴스가 공유해도 비교 가능)
+ *
+ * 읽기 경로(캐시 미스 → DB 조회 → 저장)와 쓰기가 겹칠 때 오래된 스냅샷이 덮어쓰지 않도록
+ * 세대(generation) 번호를 둔다: DB 조회 전에 stamp()를 받아 두고, 그 사이 쓰기/무효화가 있었으면 저장하지 않는다.
+ */
+@Component
+public class ActiveCartCache {
+
+    private final ActiveCartStore store;
+    private final StoreService storeService;
+
+    // 쓰기/무효화마다 증가 (populate 경합 판정용), 증가와 저장소 반영은 writeLock 안에서 함께 수행
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private long generation;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder writeCount = new LongAdder();
+    private final LongAdder invalidationCount = new LongAdder();
+
+    public ActiveCartCache(ActiveCartStore store, StoreService storeService) {
+        this.store = store;
+        this.storeService = storeService;
+    }
+
+    /**
+     * 사용자의 ACTIVE 장바구니 스냅샷 (만든 뒤 카탈로그가 바뀌었으면 없음으로 처리)
+     */
+    public Optional<ActiveCart> get(Long userId) {
+        Optional<ActiveCart> cart = store.get(userId)
+                .filter(cached -> cached.getCatalogHash().equals(catalogHash()));
+        if (cart.isPresent()) {
+            hitCount.increment();
+        } else {
+            missCount.increment();
+        }
+        return cart;
+    }
+
+    /**
+     * 스냅샷에 기록할 현재 카탈로그 내용 해시 (장바구니 라인을 DB에서 조회하기 전에 받아 둔다)
+     * - 조회 도중 가격이 바뀌면 커밋 후 카탈로그가 다시 적재되어 해시가 바뀌므로, 예전 단가로 만든 스냅샷은 다음 조회에서 미스가 된다
+     */
+    public String catalogHash() {
+        return storeService.getCatalogSnapshot().getContentHash();
+    }
+
+    /**
+     * 캐시 미스 후 DB 조회를 시작하기 전의 세대 번호
+     */
+    public long stamp() {
+        writeLock.lock();
+        try {
+            return generation;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 읽기 경로에서 DB로 만든 스냅샷 저장
+     * - stamp 이후에 쓰기/무효화가 있었으면 (더 최신 값이 있을 수 있으므로) 저장하지 않음
+     */
+    public void populate(ActiveCart cart, long stamp) {
+        writeLock.lock();
+        try {
+            if (generation == stamp) {
+                store.put(cart);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 장바구니 변경 결과 저장 (트랜잭션 안이면 커밋 후 반영, 롤백되면 버림)
+     */
+    public void writeThrough(ActiveCart cart) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            pendingWrites().put(cart.getUserId(), cart);
+        } else {
+            apply(cart.getUserId(), cart);
+        }
+    }
+
+    /**
+     * 사용자의 ACTIVE 장바구니 캐시 제거
+     * - 즉시 제거 (트랜잭션 진행 중 다른 요청이 예전 장바구니를 쓰지 않도록)
+     * - 트랜잭션 안이면 커밋 후 한 번 더 제거 (커밋 전 데이터로 다시 채워진 경우 대비)
+     */
+    public void invalidate(Long userId) {
+        apply(userId, null);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            pendingWrites().put(userId, null);
+        }
+    }
+
+    /**
+     * 현재 트랜잭션의 사용자별 대기 중 쓰기 (값이 null이면 제거)
+     */
+    @SuppressWarnings("unchecked")
+    private Map<Long, ActiveCart> pendingWrites() {
+        Map<Long, ActiveCart> pending = (Map<Long, ActiveCart>) TransactionSynchronizationManager.getResource(this);
+        if (pending != null) {
+            return pending;
+        }
+
+        Map<Long, ActiveCart> created = new LinkedHashMap<>();
+        TransactionSynchronizationManager.bindResource(this, created);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                created.forEach(ActiveCartCache.this::apply);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(ActiveCartCache.this);
+            }
+        });
+        return created;
+    }
+
+    private void apply(Long userId, ActiveCart cart) {
+        writeLock.lock();
+        try {
+            generation++;
+            if (cart != null) {
+                store.put(cart);
+                writeCount.increment();
+            } else {
+                store.remove(userId);
+                invalidationCount.increment();
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // ===== 통계 =====
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getWriteCount() {
+        return writeCount.sum();
+    }
+
+    public long getInvalidationCount() {
+        return invalidationCount.sum();
+    }
+
+    public double getHitRatio() {
+        long hits = getHitCount();
+        long total = hits + getMissCount();
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+}
@@ -0,0 +1,21 @@
+package com.wheats.api.order.cache;
+
+import java.util.Optional;
+
+/**
+ * ACTIVE 장바구니 캐시 저장소 (백엔드 교체용 확장 지점)
+ *
+ * - 기본 구현: InMemoryActiveCartStore (cart.cache.store=memory, 단일 인스턴스용)
+ * - API 서버를 여러 대 띄우면 Redis 등 공유 저장소 구현을 빈으로 등록하고
+ *   cart.cache.store 값을 바꿔서 기본 구현을 끈다 (인스턴스마다 따로 캐시하면 무효화가 전파되지 않음)
+ *
+ * 구현체는 스레드 안전해야 하며, 만료(TTL)는 구현체가 책임진다.
+ */
+public interface ActiveCartStore {
+
+    Optional<ActiveCart> get(Long userId);
+
+    void put(ActiveCart cart);
+
+    void remove(Long userId);
+}
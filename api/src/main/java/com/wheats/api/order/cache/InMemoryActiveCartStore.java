@@ -0,0 +1,108 @@
+package com.wheats.api.order.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 프로세스 내 ACTIVE 장바구니 저장소 (cart.cache.store=memory, 기본값)
+ * - 용량 초과 시 가장 오래 사용되지 않은 사용자부터 제거 (LRU)
+ * - 마지막 저장 후 TTL이 지나면 만료 (DB를 직접 수정한 경우 대비)
+ */
+@Component
+@ConditionalOnProperty(name = "cart.cache.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryActiveCartStore implements ActiveCartStore {
+
+    private final int maxSize;
+    private final Duration ttl;
+    private final Clock clock = Clock.systemUTC();
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<Long, Entry> entries;
+
+    public InMemoryActiveCartStore(@Value("${cart.cache.max-size:10000}") int maxSize,
+                                   @Value("${cart.cache.ttl-seconds:1800}") long ttlSeconds) {
+        this.maxSize = maxSize;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        // accessOrder=true → get() 시 순서가 갱신되어 LRU로 동작
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                return size() > InMemoryActiveCartStore.this.maxSize;
+            }
+        };
+    }
+
+    @Override
+    public Optional<ActiveCart> get(Long userId) {
+        if (maxSize <= 0) {
+            return Optional.empty();
+        }
+        Instant now = clock.instant();
+        lock.lock();
+        try {
+            Entry entry = entries.get(userId);
+            if (entry == null) {
+                return Optional.empty();
+            }
+            if (!entry.expiresAt.isAfter(now)) {
+                entries.remove(userId);
+                return Optional.empty();
+            }
+            return Optional.of(entry.cart);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void put(ActiveCart cart) {
+        if (maxSize <= 0) {
+            return;
+        }
+        Entry entry = new Entry(cart, clock.instant().plus(ttl));
+        lock.lock();
+        try {
+            entries.put(cart.getUserId(), entry);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long userId) {
+        lock.lock();
+        try {
+            entries.remove(userId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static final class Entry {
+        private final ActiveCart cart;
+        private final Instant expiresAt;
+
+        private Entry(ActiveCart cart, Instant expiresAt) {
+            this.cart = cart;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
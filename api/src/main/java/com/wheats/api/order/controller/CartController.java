@@ -6,6 +6,8 @@ import com.wheats.api.order.dto.CartResponse;
 import com.wheats.api.order.dto.UpdateCartItemQuantityRequest;
 import com.wheats.api.order.exception.CartConflictException;
 import com.wheats.api.order.service.CartService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -18,6 +20,8 @@ import java.util.Optional;
 @RequestMapping("/api/cart")
 public class CartController {
 
+    private static final Logger log = LoggerFactory.getLogger(CartController.class);
+
     private final CartService cartService;
 
     public CartController(CartService cartService) {
@@ -29,19 +33,17 @@ public class CartController {
     public ResponseEntity<CartResponse> getMyCart() {
         try {
             Long userId = AuthContext.getCurrentUserId();
-            System.out.println("🛒 장바구니 조회 요청: userId=" + userId);
+            log.debug("장바구니 조회 요청: userId={}", userId);
 
             Optional<CartResponse> cartOpt = cartService.getMyCart(userId);
             return cartOpt
                     .map(ResponseEntity::ok)
                     .orElseGet(() -> ResponseEntity.notFound().build());
         } catch (IllegalStateException e) {
-            System.err.println("❌ 인증 오류: " + e.getMessage());
-            e.printStackTrace();
+            log.warn("장바구니 조회 인증 오류: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         } catch (Exception e) {
-            System.err.println("❌ 장바구니 조회 중 오류 발생: " + e.getMessage());
-            e.printStackTrace();
+            log.error("장바구니 조회 중 오류 발생", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
@@ -54,15 +56,15 @@ public class CartController {
             @RequestParam(value = "force", defaultValue = "false") boolean force) {
         try {
             Long userId = AuthContext.getCurrentUserId();
-            System.out.println("🛒 장바구니 아이템 추가 요청: userId=" + userId + ", storeId=" + request.getStoreId() + ", menuId=" + request.getMenuId());
+            log.debug("장바구니 아이템 추가 요청: userId={}, storeId={}, menuId={}",
+                    userId, request.getStoreId(), request.getMenuId());
 
             CartResponse response = cartService.addItem(userId, request, force);
-            System.out.println("✅ 장바구니 아이템 추가 성공");
+            log.debug("장바구니 아이템 추가 성공: userId={}", userId);
             return ResponseEntity.ok(response);
         } catch (IllegalStateException e) {
             // 인증 관련 오류
-            System.err.println("❌ 인증 오류: " + e.getMessage());
-            e.printStackTrace();
+            log.warn("장바구니 아이템 추가 인증 오류: {}", e.getMessage());
             Map<String, Object> errorResponse = new HashMap<>();
             errorResponse.put("error", "인증 오류");
             errorResponse.put("message", e.getMessage());
@@ -75,8 +77,7 @@ public class CartController {
             return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
         } catch (Exception e) {
             // 기타 예외
-            System.err.println("❌ 장바구니 아이템 추가 중 오류 발생: " + e.getMessage());
-            e.printStackTrace();
+            log.error("장바구니 아이템 추가 중 오류 발생", e);
             Map<String, Object> errorResponse = new HashMap<>();
             errorResponse.put("error", "서버 오류");
             errorResponse.put("message", e.getMessage());
@@ -0,0 +1,67 @@
+package com.wheats.api.order.dto;
+
+/**
+ * 장바구니 조회용 평면 프로젝션 (carts ⨝ stores ⟕ cart_items ⟕ menus 한 행)
+ * - 아이템이 없는 장바구니는 cartItemId 등이 null인 행 1개로 조회됨
+ */
+public class CartLineRow {
+
+    private final Long cartId;
+    private final Long storeId;
+    private final String storeName;
+    private final Long cartItemId;
+    private final Long menuId;
+    private final String menuName;
+    private final Integer quantity;
+    private final Integer unitPrice;
+
+    public CartLineRow(Long cartId,
+                       Long storeId,
+                       String storeName,
+                       Long cartItemId,
+                       Long menuId,
+                       String menuName,
+                       Integer quantity,
+                       Integer unitPrice) {
+        this.cartId = cartId;
+        this.storeId = storeId;
+        this.storeName = storeName;
+        this.cartItemId = cartItemId;
+        this.menuId = menuId;
+        this.menuName = menuName;
+        this.quantity = quantity;
+        this.unitPrice = unitPrice;
+    }
+
+    public Long getCartId() {
+        return cartId;
+    }
+
+    public Long getStoreId() {
+        return storeId;
+    }
+
+    public String getStoreName() {
+        return storeName;
+    }
+
+    public Long getCartItemId() {
+        return cartItemId;
+    }
+
+    public Long getMenuId() {
+        return menuId;
+    }
+
+    public String getMenuName() {
+        return menuName;
+    }
+
+    public Integer getQuantity() {
+        return quantity;
+    }
+
+    public Integer getUnitPrice() {
+        return unitPrice;
+    }
+}
@@ -0,0 +1,65 @@
+package com.wheats.api.order.dto;
+
+import com.wheats.api.order.entity.OrderStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 내역 조회용 평면 프로젝션 (주문 1건당 1행)
+ * - orders 행의 주문 시점 요약 컬럼 (store_name, first_item_name, item_count)
+ * - 요약이 백필되지 않은 과거 주문은 storeName / firstMenuName 이 null
+ */
+public class OrderHistoryRow {
+
+    private final Long orderId;
+    private final String storeName;
+    private final String firstMenuName;
+    private final int itemCount;
+    private final LocalDateTime createdAt;
+    private final int totalPrice;
+    private final OrderStatus status;
+
+    public OrderHistoryRow(Long orderId,
+                           String storeName,
+                           String firstMenuName,
+                           int itemCount,
+                           LocalDateTime createdAt,
+                           int totalPrice,
+                           OrderStatus status) {
+        this.orderId = orderId;
+        this.storeName = storeName;
+        this.firstMenuName = firstMenuName;
+        this.itemCount = itemCount;
+        this.createdAt = createdAt;
+        this.totalPrice = totalPrice;
+        this.status = status;
+    }
+
+    public Long getOrderId() {
+        return orderId;
+    }
+
+    public String getStoreName() {
+        return storeName;
+    }
+
+    public String getFirstMenuName() {
+        return firstMenuName;
+    }
+
+    public int getItemCount() {
+        return itemCount;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public int getTotalPrice() {
+        return totalPrice;
+    }
+
+    public OrderStatus getStatus() {
+        return status;
+    }
+}
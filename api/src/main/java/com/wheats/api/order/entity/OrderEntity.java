@@ -34,6 +34,25 @@ public class OrderEntity {
     @Column(name = "total_price", nullable = false)
     private int totalPrice;
 
+    // ===== 주문 시점 요약 (스냅샷) =====
+    // 주문 생성 시 한 번만 기록 → 주문 내역/영수증은 가게·메뉴 테이블을 다시 조회하지 않음
+    // (가게/메뉴 이름이 바뀌거나 삭제되어도 주문 당시 값 유지)
+
+    @Column(name = "store_name", length = 100)
+    private String storeName;
+
+    // 첫 번째 주문 아이템의 메뉴 이름 ("OOO 외 N개" 표시용)
+    @Column(name = "first_item_name", length = 100)
+    private String firstItemName;
+
+    // 주문 아이템(행) 수
+    @Column(name = "item_count", nullable = false)
+    private int itemCount;
+
+    // 메뉴 금액 합계 (배달료 제외, totalPrice - orderAmount = 배달료)
+    @Column(name = "order_amount", nullable = false)
+    private int orderAmount;
+
     // DB에서 DEFAULT CURRENT_TIMESTAMP 처리
     @Column(name = "created_at", insertable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -96,6 +115,22 @@ public class OrderEntity {
         return totalPrice;
     }
 
+    public String getStoreName() {
+        return storeName;
+    }
+
+    public String getFirstItemName() {
+        return firstItemName;
+    }
+
+    public int getItemCount() {
+        return itemCount;
+    }
+
+    public int getOrderAmount() {
+        return orderAmount;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -121,4 +156,14 @@ public class OrderEntity {
     public void setReceiptFlag(String receiptFlag) {
         this.receiptFlag = receiptFlag;
     }
+
+    /**
+     * 주문 시점 요약 기록 (INSERT 전에 호출 → 별도 UPDATE 없음)
+     */
+    public void setSummary(String storeName, String firstItemName, int itemCount, int orderAmount) {
+        this.storeName = storeName;
+        this.firstItemName = firstItemName;
+        this.itemCount = itemCount;
+        this.orderAmount = orderAmount;
+    }
 }
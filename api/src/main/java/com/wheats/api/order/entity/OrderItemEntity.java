@@ -18,6 +18,10 @@ public class OrderItemEntity {
     @Column(name = "menu_id", nullable = false)
     private Long menuId;
 
+    // 주문 시점 메뉴 이름 (메뉴 이름 변경/삭제와 무관하게 영수증 유지)
+    @Column(name = "menu_name", length = 100)
+    private String menuName;
+
     @Column(name = "quantity", nullable = false)
     private int quantity;
 
@@ -28,9 +32,10 @@ public class OrderItemEntity {
     protected OrderItemEntity() {
     }
 
-    public OrderItemEntity(Long orderId, Long menuId, int quantity, int unitPrice) {
+    public OrderItemEntity(Long orderId, Long menuId, String menuName, int quantity, int unitPrice) {
         this.orderId = orderId;
         this.menuId = menuId;
+        this.menuName = menuName;
         this.quantity = quantity;
         this.unitPrice = unitPrice;
     }
@@ -49,6 +54,10 @@ public class OrderItemEntity {
         return menuId;
     }
 
+    public String getMenuName() {
+        return menuName;
+    }
+
     public int getQuantity() {
         return quantity;
     }
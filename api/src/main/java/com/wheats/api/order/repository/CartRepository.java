@@ -1,8 +1,13 @@
 package com.wheats.api.order.repository;
 
+import com.wheats.api.order.dto.CartLineRow;
 import com.wheats.api.order.entity.CartEntity;
+import com.wheats.api.order.entity.CartItemStatus;
 import com.wheats.api.order.entity.CartStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -21,4 +26,21 @@ public interface CartRepository extends JpaRepository<CartEntity, Long> {
 
     // user의 모든 ACTIVE 장바구니 조회
     List<CartEntity> findByUserIdAndStatus(Long userId, CartStatus status);
+
+    // 장바구니 상태 변경 (엔티티 조회 없이 UPDATE 1번)
+    @Modifying
+    @Query("UPDATE CartEntity c SET c.status = :status WHERE c.id = :cartId")
+    int updateStatus(@Param("cartId") Long cartId, @Param("status") CartStatus status);
+
+    // 장바구니 응답용: 가게 + 아이템 + 메뉴를 쿼리 1번으로 조회 (아이템 수와 무관)
+    @Query("SELECT new com.wheats.api.order.dto.CartLineRow("
+            + " c.id, s.id, s.name, ci.id, m.id, m.name, ci.quantity, m.price)"
+            + " FROM CartEntity c"
+            + " JOIN StoreEntity s ON s.id = c.storeId"
+            + " LEFT JOIN CartItemEntity ci ON ci.cartId = c.id AND ci.status = :itemStatus"
+            + " LEFT JOIN MenuEntity m ON m.id = ci.menuId"
+            + " WHERE c.id = :cartId"
+            + " ORDER BY ci.id")
+    List<CartLineRow> findCartLines(@Param("cartId") Long cartId,
+                                    @Param("itemStatus") CartItemStatus itemStatus);
 }
@@ -5,7 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.List;
 
-public interface OrderItemRepository extends JpaRepository<OrderItemEntity, Long> {
+public interface OrderItemRepository extends JpaRepository<OrderItemEntity, Long>, OrderItemRepositoryCustom {
 
     List<OrderItemEntity> findByOrderId(Long orderId);
 }
@@ -0,0 +1,11 @@
+package com.wheats.api.order.repository;
+
+import com.wheats.api.order.entity.OrderItemEntity;
+
+import java.util.List;
+
+public interface OrderItemRepositoryCustom {
+
+    // 주문 아이템 일괄 INSERT (JDBC batch, 한 번의 왕복)
+    void batchInsert(List<OrderItemEntity> orderItems);
+}
@@ -0,0 +1,39 @@
+package com.wheats.api.order.repository;
+
+import com.wheats.api.order.entity.OrderItemEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+/**
+ * OrderItemRepositoryCustom 구현 (Spring Data가 이름 규칙으로 OrderItemRepository에 합쳐줌)
+ *
+ * OrderItemEntity는 IDENTITY 전략이라 JPA saveAll()로는 INSERT가 한 건씩 나간다.
+ * 주문 아이템은 저장 후 다시 수정하지 않으므로 JDBC batch로 한 번에 INSERT 한다.
+ * (MySQL URL의 rewriteBatchedStatements=true → multi-row INSERT 한 문장으로 전송)
+ */
+public class OrderItemRepositoryImpl implements OrderItemRepositoryCustom {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO order_items (order_id, menu_id, menu_name, quantity, unit_price) VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public OrderItemRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void batchInsert(List<OrderItemEntity> orderItems) {
+        if (orderItems.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, orderItems, orderItems.size(), (ps, item) -> {
+            ps.setLong(1, item.getOrderId());
+            ps.setLong(2, item.getMenuId());
+            ps.setString(3, item.getMenuName());
+            ps.setInt(4, item.getQuantity());
+            ps.setInt(5, item.getUnitPrice());
+        });
+    }
+}
@@ -1,8 +1,13 @@
 package com.wheats.api.order.repository;
 
+import com.wheats.api.order.dto.OrderHistoryRow;
 import com.wheats.api.order.entity.OrderEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,6 +19,30 @@ public interface OrderRepository extends JpaRepository<OrderEntity, Long> {
     // 내 주문 목록 조회용 (필요 시)
     List<OrderEntity> findByUserIdOrderByCreatedAtDesc(Long userId);
 
+    // 주문 내역용: orders 행의 주문 시점 요약(가게/첫 메뉴 이름, 아이템 수)만으로 조회 (조인/서브쿼리 없음)
+    // - 정렬 (created_at DESC, id DESC) = idx_orders_user_created(user_id, created_at) + PK 순서
+    //   → InnoDB 보조 인덱스에는 PK(id)가 포함되므로 (user_id, created_at, id) keyset을 인덱스로 탐색
+    // - 행 수 제한은 Pageable(PageRequest.of(0, n))로 SQL LIMIT 적용 (count 쿼리 없음)
+    String ORDER_HISTORY_SELECT = "SELECT new com.wheats.api.order.dto.OrderHistoryRow("
+            + " o.id, o.storeName, o.firstItemName, o.itemCount, o.createdAt, o.totalPrice, o.status)"
+            + " FROM OrderEntity o"
+            + " WHERE o.userId = :userId";
+
+    String ORDER_HISTORY_ORDER_BY = " ORDER BY o.createdAt DESC, o.id DESC";
+
+    // 최신 주문부터 (첫 페이지 / 마이페이지 최근 주문)
+    @Query(ORDER_HISTORY_SELECT + ORDER_HISTORY_ORDER_BY)
+    List<OrderHistoryRow> findOrderHistory(@Param("userId") Long userId, Pageable pageable);
+
+    // 커서 (createdAt, id) 이후의 주문 (다음 페이지)
+    @Query(ORDER_HISTORY_SELECT
+            + " AND (o.createdAt < :createdAt OR (o.createdAt = :createdAt AND o.id < :orderId))"
+            + ORDER_HISTORY_ORDER_BY)
+    List<OrderHistoryRow> findOrderHistoryAfter(@Param("userId") Long userId,
+                                                @Param("createdAt") LocalDateTime createdAt,
+                                                @Param("orderId") Long orderId,
+                                                Pageable pageable);
+
     // cart가 주문에 의해 참조되고 있는지 확인 (FK delete restrict 대응)
     boolean existsByCartId(Long cartId);
 }
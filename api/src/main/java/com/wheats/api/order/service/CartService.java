@@ -1,7 +1,10 @@
 package com.wheats.api.order.service;
 
+import com.wheats.api.order.cache.ActiveCart;
+import com.wheats.api.order.cache.ActiveCartCache;
 import com.wheats.api.order.dto.CartItemRequest;
 import com.wheats.api.order.dto.CartItemResponse;
+import com.wheats.api.order.dto.CartLineRow;
 import com.wheats.api.order.dto.CartResponse;
 import com.wheats.api.order.dto.UpdateCartItemQuantityRequest;
 import com.wheats.api.order.entity.CartEntity;
@@ -12,17 +15,13 @@ import com.wheats.api.order.exception.CartConflictException;
 import com.wheats.api.order.repository.CartItemRepository;
 import com.wheats.api.order.repository.CartRepository;
 import com.wheats.api.order.repository.OrderRepository;
-import com.wheats.api.store.entity.MenuEntity;
-import com.wheats.api.store.entity.StoreEntity;
-import com.wheats.api.store.repository.MenuRepository;
-import com.wheats.api.store.repository.StoreRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 @Service
 public class CartService {
@@ -30,23 +29,28 @@ public class CartService {
     private final CartRepository cartRepository;
     private final CartItemRepository cartItemRepository;
     private final OrderRepository orderRepository;
-    private final StoreRepository storeRepository;
-    private final MenuRepository menuRepository;
+    private final ActiveCartCache activeCartCache;
 
     public CartService(CartRepository cartRepository,
                        CartItemRepository cartItemRepository,
                        OrderRepository orderRepository,
-                       StoreRepository storeRepository,
-                       MenuRepository menuRepository) {
+                       ActiveCartCache activeCartCache) {
         this.cartRepository = cartRepository;
         this.cartItemRepository = cartItemRepository;
         this.orderRepository = orderRepository;
-        this.storeRepository = storeRepository;
-        this.menuRepository = menuRepository;
+        this.activeCartCache = activeCartCache;
     }
 
     @Transactional(readOnly = true)
     public Optional<CartResponse> getMyCart(Long userId) {
+        // 캐시 히트 → DB 조회 없음
+        Optional<ActiveCart> cached = activeCartCache.get(userId);
+        if (cached.isPresent()) {
+            return Optional.of(cached.get().toResponse());
+        }
+
+        long stamp = activeCartCache.stamp();
+        String catalogHash = activeCartCache.catalogHash();
         Optional<CartEntity> cartOpt = cartRepository
                 .findFirstByUserIdAndStatusOrderByCreatedAtDesc(userId, CartStatus.ACTIVE);
 
@@ -54,8 +58,9 @@ public class CartService {
             return Optional.empty();
         }
 
-        CartEntity cart = cartOpt.get();
-        return Optional.of(buildCartResponse(cart));
+        CartResponse response = buildCartResponse(cartOpt.get());
+        activeCartCache.populate(ActiveCart.from(userId, response, catalogHash), stamp);
+        return Optional.of(response);
     }
 
     @Transactional
@@ -65,34 +70,57 @@ public class CartService {
         // 규칙:
         // - 사용자당 ACTIVE 카트는 1개만 허용(서비스 로직으로 보장)
         // - 다른 매장 담기 시 force=false면 409, force=true면 기존 ACTIVE를 CANCELLED로 전환 후 새 ACTIVE 생성
-        Optional<CartEntity> activeCartOpt = cartRepository.findFirstByUserIdAndStatusOrderByCreatedAtDesc(userId, CartStatus.ACTIVE);
+        // - 현재 ACTIVE 카트는 캐시에서 먼저 찾고, 없을 때만 DB(ORDER BY) 조회
+        // - 캐시의 카트 id로 쓰기 전에 DB에서 아직 ACTIVE인지 PK로 다시 확인
+        //   (다른 요청/인스턴스가 주문·교체로 상태를 바꾼 뒤 캐시가 아직 지워지지 않았을 수 있음)
+        Long activeCartId = null;
+        Long activeStoreId = null;
+
+        Optional<ActiveCart> cached = activeCartCache.get(userId);
+        if (cached.isPresent() && !isActiveCartOf(userId, cached.get().getCartId())) {
+            activeCartCache.invalidate(userId);
+            cached = Optional.empty();
+        }
+
+        if (cached.isPresent()) {
+            activeCartId = cached.get().getCartId();
+            activeStoreId = cached.get().getStoreId();
+        } else {
+            Optional<CartEntity> activeCartOpt =
+                    cartRepository.findFirstByUserIdAndStatusOrderByCreatedAtDesc(userId, CartStatus.ACTIVE);
+            if (activeCartOpt.isPresent()) {
+                activeCartId = activeCartOpt.get().getId();
+                activeStoreId = activeCartOpt.get().getStoreId();
+            }
+        }
 
-        CartEntity cart;
-        if (activeCartOpt.isPresent()) {
-            CartEntity activeCart = activeCartOpt.get();
-            if (!activeCart.getStoreId().equals(storeId)) {
+        Long cartId;
+        if (activeCartId != null) {
+            if (!activeStoreId.equals(storeId)) {
                 if (!force) {
-                    throw new CartConflictException(buildCartResponse(activeCart));
+                    throw new CartConflictException(cached.isPresent()
+                            ? cached.get().toResponse()
+                            : buildCartResponse(activeCartId, activeStoreId));
                 }
                 // 다른 매장 ACTIVE → CANCELLED 전환(삭제 금지)
-                activeCart.setStatus(CartStatus.CANCELLED);
-                cartRepository.save(activeCart);
-                cartRepository.flush();
+                cartRepository.updateStatus(activeCartId, CartStatus.CANCELLED);
                 // 기존 카트의 아이템도 CANCELLED 처리(조회에서 제외되도록 상태 동기화)
-                cartItemRepository.updateStatusByCartId(activeCart.getId(), CartItemStatus.CANCELLED);
+                cartItemRepository.updateStatusByCartId(activeCartId, CartItemStatus.CANCELLED);
+                // 기존 카트 캐시 즉시 제거 (새 카트는 커밋 후 아래 writeThrough로 저장)
+                activeCartCache.invalidate(userId);
 
                 // 새 ACTIVE 생성
-                cart = cartRepository.save(new CartEntity(userId, storeId, CartStatus.ACTIVE));
+                cartId = cartRepository.save(new CartEntity(userId, storeId, CartStatus.ACTIVE)).getId();
             } else {
-                cart = activeCart;
+                cartId = activeCartId;
             }
         } else {
-            cart = cartRepository.save(new CartEntity(userId, storeId, CartStatus.ACTIVE));
+            cartId = cartRepository.save(new CartEntity(userId, storeId, CartStatus.ACTIVE)).getId();
         }
 
         // 4. 메뉴 추가 로직
         Optional<CartItemEntity> existed = cartItemRepository.findByCartIdAndMenuIdAndStatus(
-                cart.getId(), request.getMenuId(), CartItemStatus.ACTIVE
+                cartId, request.getMenuId(), CartItemStatus.ACTIVE
         );
 
         if (existed.isPresent()) {
@@ -100,14 +128,18 @@ public class CartService {
             item.setQuantity(item.getQuantity() + request.getQuantity());
             cartItemRepository.save(item);
         } else {
-            CartItemEntity newItem = new CartItemEntity(cart.getId(), request.getMenuId(), request.getQuantity());
+            CartItemEntity newItem = new CartItemEntity(cartId, request.getMenuId(), request.getQuantity());
             cartItemRepository.save(newItem);
         }
 
         // 5. 최종 응답 빌드 전 영속성 반영
         cartItemRepository.flush();
 
-        return buildCartResponse(cart);
+        // 6. 응답을 만들면서 조회한 라인으로 캐시 갱신 (커밋 후 반영)
+        String catalogHash = activeCartCache.catalogHash();
+        CartResponse response = buildCartResponse(cartId, storeId);
+        activeCartCache.writeThrough(ActiveCart.from(userId, response, catalogHash));
+        return response;
     }
 
     @Transactional
@@ -135,7 +167,7 @@ public class CartService {
             cartItemRepository.save(item);
         }
 
-        return buildCartResponse(cart);
+        return buildAndCache(userId, cart);
     }
 
     @Transactional
@@ -154,42 +186,77 @@ public class CartService {
         item.setQuantity(0);
         cartItemRepository.save(item);
 
-        return buildCartResponse(cart);
+        return buildAndCache(userId, cart);
+    }
+
+    /**
+     * 캐시에 있던 카트가 DB에서도 여전히 이 사용자의 ACTIVE 카트인지 확인
+     */
+    private boolean isActiveCartOf(Long userId, Long cartId) {
+        return cartRepository.findById(cartId)
+                .filter(cart -> cart.getStatus() == CartStatus.ACTIVE && cart.getUserId().equals(userId))
+                .isPresent();
     }
 
-    private CartResponse buildCartResponse(CartEntity cart) {
-        StoreEntity store = storeRepository.findById(cart.getStoreId())
-                .orElseThrow(() -> new NoSuchElementException("Store not found. id=" + cart.getStoreId()));
+    /**
+     * 장바구니 응답 생성 + ACTIVE 장바구니면 캐시 갱신 (커밋 후 반영)
+     */
+    private CartResponse buildAndCache(Long userId, CartEntity cart) {
+        String catalogHash = activeCartCache.catalogHash();
+        CartResponse response = buildCartResponse(cart);
+        if (cart.getStatus() == CartStatus.ACTIVE) {
+            activeCartCache.writeThrough(ActiveCart.from(userId, response, catalogHash));
+        }
+        return response;
+    }
 
-        List<CartItemEntity> items = cartItemRepository.findByCartIdAndStatus(cart.getId(), CartItemStatus.ACTIVE);
+    /**
+     * 장바구니 응답 생성
+     * - 가게/아이템/메뉴를 조인 쿼리 1번으로 조회 → 아이템 수와 관계없이 쿼리 수 고정
+     * - JMH 벤치마크(src/jmh)에서 직접 호출하므로 package-private
+     */
+    CartResponse buildCartResponse(CartEntity cart) {
+        return buildCartResponse(cart.getId(), cart.getStoreId());
+    }
 
-        List<CartItemResponse> itemResponses = items.stream()
-                .map(it -> {
-                    MenuEntity menu = menuRepository.findById(it.getMenuId())
-                            .orElseThrow(() -> new NoSuchElementException("Menu not found. id=" + it.getMenuId()));
+    private CartResponse buildCartResponse(Long cartId, Long storeId) {
+        List<CartLineRow> rows = cartRepository.findCartLines(cartId, CartItemStatus.ACTIVE);
+        if (rows.isEmpty()) {
+            throw new NoSuchElementException("Store not found. id=" + storeId);
+        }
 
-                    int unitPrice = menu.getPrice();
-                    int linePrice = unitPrice * it.getQuantity();
+        List<CartItemResponse> itemResponses = new ArrayList<>();
+        for (CartLineRow row : rows) {
+            if (row.getCartItemId() == null) {
+                // 아이템이 없는 장바구니 (LEFT JOIN 결과 1행)
+                continue;
+            }
+            if (row.getMenuId() == null) {
+                throw new NoSuchElementException("Menu not found. cartItemId=" + row.getCartItemId());
+            }
 
-                    return new CartItemResponse(
-                            it.getId(),
-                            menu.getId(),
-                            menu.getName(),
-                            it.getQuantity(),
-                            unitPrice,
-                            linePrice
-                    );
-                })
-                .collect(Collectors.toList());
+            int unitPrice = row.getUnitPrice();
+            int linePrice = unitPrice * row.getQuantity();
+
+            itemResponses.add(new CartItemResponse(
+                    row.getCartItemId(),
+                    row.getMenuId(),
+                    row.getMenuName(),
+                    row.getQuantity(),
+                    unitPrice,
+                    linePrice
+            ));
+        }
 
         int totalPrice = itemResponses.stream()
                 .mapToInt(CartItemResponse::getLinePrice)
                 .sum();
 
+        CartLineRow first = rows.get(0);
         return new CartResponse(
-                cart.getId(),
-                store.getId(),
-                store.getName(),
+                cartId,
+                first.getStoreId(),
+                first.getStoreName(),
                 itemResponses,
                 totalPrice
         );
@@ -0,0 +1,10 @@
+package com.wheats.api.order.service;
+
+/**
+ * 주문번호 생성기
+ * - orders.order_number 는 UNIQUE 이므로 여러 API 노드에서 동시에 호출해도 중복이 없어야 함
+ */
+public interface OrderNumberGenerator {
+
+    String nextOrderNumber();
+}
@@ -2,6 +2,7 @@ package com.wheats.api.order.service;
 
 import com.wheats.api.mypage.entity.UserEntity;
 import com.wheats.api.mypage.repository.UserRepository;
+import com.wheats.api.order.cache.ActiveCartCache;
 import com.wheats.api.order.dto.OrderDetailResponse;
 import com.wheats.api.order.dto.OrderItemResponse;
 import com.wheats.api.order.dto.OrderRequest;
@@ -26,7 +27,11 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 public class OrderService {
@@ -38,6 +43,8 @@ public class OrderService {
     private final MenuRepository menuRepository;
     private final StoreRepository storeRepository;
     private final UserRepository userRepository;
+    private final OrderNumberGenerator orderNumberGenerator;
+    private final ActiveCartCache activeCartCache;
 
     public OrderService(CartRepository cartRepository,
                         CartItemRepository cartItemRepository,
@@ -45,7 +52,9 @@ public class OrderService {
                         OrderItemRepository orderItemRepository,
                         MenuRepository menuRepository,
                         StoreRepository storeRepository,
-                        UserRepository userRepository) {
+                        UserRepository userRepository,
+                        OrderNumberGenerator orderNumberGenerator,
+                        ActiveCartCache activeCartCache) {
         this.cartRepository = cartRepository;
         this.cartItemRepository = cartItemRepository;
         this.orderRepository = orderRepository;
@@ -53,6 +62,8 @@ public class OrderService {
         this.menuRepository = menuRepository;
         this.storeRepository = storeRepository;
         this.userRepository = userRepository;
+        this.orderNumberGenerator = orderNumberGenerator;
+        this.activeCartCache = activeCartCache;
     }
 
     /**
@@ -81,13 +92,13 @@ public class OrderService {
             throw new IllegalStateException("장바구니에 담긴 상품이 없습니다.");
         }
 
-        // 3) 총 금액 계산 (각 메뉴 가격 * 수량)
+        // 3) 메뉴 일괄 조회 (IN 쿼리 1번) → 금액 계산/주문 아이템 생성에 같이 사용
+        Map<Long, MenuEntity> menusById = loadMenus(cartItems);
+
+        // 총 금액 계산 (각 메뉴 가격 * 수량)
         int orderAmount = 0;
         for (CartItemEntity item : cartItems) {
-            Long menuId = item.getMenuId();
-            MenuEntity menu = menuRepository.findById(menuId)
-                    .orElseThrow(() -> new IllegalArgumentException("메뉴를 찾을 수 없습니다. id=" + menuId));
-
+            MenuEntity menu = menusById.get(item.getMenuId());
             orderAmount += menu.getPrice() * item.getQuantity();
         }
 
@@ -98,22 +109,18 @@ public class OrderService {
         int totalPrice = orderAmount + deliveryFee;
 
         // 5) 사용자 포인트 확인 및 차감
-        UserEntity user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다. id=" + userId));
-
-        if (user.getPoint() < totalPrice) {
+        //    - 조건부 UPDATE 한 번으로 처리 (동시 주문 시에도 초과 차감 없음)
+        if (userRepository.deductPoint(userId, totalPrice) == 0) {
+            UserEntity user = userRepository.findById(userId)
+                    .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다. id=" + userId));
             throw new IllegalStateException(
                     String.format("포인트가 부족합니다. 잔여 포인트: %,d원, 필요 포인트: %,d원", 
                             user.getPoint(), totalPrice)
             );
         }
 
-        // 포인트 차감
-        user.setPoint(user.getPoint() - totalPrice);
-        userRepository.save(user);
-
-        // 6) 주문번호 생성 (간단 버전)
-        String orderNumber = generateOrderNumber();
+        // 6) 주문번호 생성 (노드 간 중복 없는 Snowflake ID)
+        String orderNumber = orderNumberGenerator.nextOrderNumber();
 
         // 7) 주문 엔티티 생성 (이미 정의된 생성자 시그니처에 맞춤)
         //    OrderEntity(Long userId, Long storeId, Long cartId,
@@ -126,35 +133,36 @@ public class OrderService {
                 OrderStatus.PAID,   // 결제까지 완료된 상태
                 totalPrice
         );
-        order = orderRepository.save(order);
-        
-        // 결제 완료 시간 설정
+        // 결제 완료 시간 + 주문 요약(가게/첫 메뉴 이름, 아이템 수, 메뉴 금액)을 INSERT 전에 설정
+        // (INSERT 1번으로 저장, 별도 UPDATE 없음 / 주문 내역·영수증은 이 값만으로 표시)
         order.setPaidAt(LocalDateTime.now());
+        MenuEntity firstMenu = menusById.get(cartItems.get(0).getMenuId());
+        order.setSummary(store.getName(), firstMenu.getName(), cartItems.size(), orderAmount);
         order = orderRepository.save(order);
 
-        // 8) 주문 아이템 엔티티 생성
+        // 8) 주문 아이템 엔티티 생성 (3)에서 조회한 메뉴 재사용)
         List<OrderItemEntity> orderItems = new ArrayList<>();
         for (CartItemEntity item : cartItems) {
-            Long menuId = item.getMenuId();
-            MenuEntity menu = menuRepository.findById(menuId)
-                    .orElseThrow(() -> new IllegalArgumentException("메뉴를 찾을 수 없습니다. id=" + menuId));
+            MenuEntity menu = menusById.get(item.getMenuId());
 
             OrderItemEntity orderItem = new OrderItemEntity(
                     order.getId(),       // 🔥 여기: Long orderId 전달
-                    menuId,
+                    menu.getId(),
+                    menu.getName(),      // 주문 시점 메뉴 이름 스냅샷
                     item.getQuantity(),
                     menu.getPrice()
             );
             orderItems.add(orderItem);
         }
-        orderItemRepository.saveAll(orderItems);
+        // JDBC batch INSERT (아이템 수와 관계없이 한 번의 왕복)
+        orderItemRepository.batchInsert(orderItems);
 
         // 9) 장바구니/아이템은 삭제하지 않는다.
         //    - CartItem은 ORDERED로 상태 전환하여 주문 이력 보존
         //    - Cart는 ORDERED로 상태 전환하여 주문 이력 보존
         cartItemRepository.updateStatusByCartId(cartId, CartItemStatus.ORDERED);
-        cart.setStatus(CartStatus.ORDERED);
-        cartRepository.save(cart);
+        cart.setStatus(CartStatus.ORDERED);   // 영속 상태 → 커밋 시 UPDATE
+        activeCartCache.invalidate(userId);   // ACTIVE 장바구니 캐시 제거 (즉시 + 커밋 후)
 
         // 11) 응답 DTO로 변환
         return new OrderResponse(
@@ -183,36 +191,31 @@ public class OrderService {
             throw new IllegalArgumentException("본인 주문이 아닙니다.");
         }
 
-        // 주문 아이템 조회
+        // 주문 아이템 조회 (메뉴 이름은 주문 시점 스냅샷 → 메뉴 테이블 조회 없음)
         List<OrderItemEntity> orderItems = orderItemRepository.findByOrderId(orderId);
         List<OrderItemResponse> itemResponses = new ArrayList<>();
-        int orderAmount = 0;
 
         for (OrderItemEntity item : orderItems) {
-            Long menuId = item.getMenuId();
-            MenuEntity menu = menuRepository.findById(menuId)
-                    .orElse(null); // 메뉴가 삭제되었을 수도 있으니, 없으면 이름은 null 처리
-
-            String menuName = (menu != null) ? menu.getName() : "(삭제된 메뉴)";
+            String menuName = (item.getMenuName() != null) ? item.getMenuName() : "(삭제된 메뉴)";
             itemResponses.add(new OrderItemResponse(
-                    menuId,
+                    item.getMenuId(),
                     menuName,
                     item.getQuantity(),
                     item.getUnitPrice()
             ));
-            orderAmount += item.getUnitPrice() * item.getQuantity();
         }
 
-        // 매장 정보 조회
+        // 금액/가게 이름은 주문 요약 기준 (배달료 = 총액 - 메뉴 금액)
+        int orderAmount = order.getOrderAmount();
+        int deliveryFee = order.getTotalPrice() - orderAmount;
+        String storeName = (order.getStoreName() != null) ? order.getStoreName() : "(삭제된 가게)";
+
+        // 매장 주소만 가게 테이블에서 조회
         StoreEntity store = storeRepository.findById(order.getStoreId())
                 .orElse(null);
-        String storeName = (store != null) ? store.getName() : "(삭제된 가게)";
         String storeAddress = (store != null && store.getDescription() != null) 
                 ? store.getDescription() 
                 : "서울시 강남구 테헤란로 123"; // 기본 주소 (실제로는 별도 주소 필드 필요)
-        int deliveryFee = (store != null && store.getDeliveryTip() != null) 
-                ? store.getDeliveryTip() 
-                : 0;
 
         // 사용자 정보 조회
         UserEntity user = userRepository.findById(order.getUserId())
@@ -242,10 +245,25 @@ public class OrderService {
     }
 
     /**
-     * 아주 단순한 주문번호 생성 로직
-     * - 실제 서비스라면 별도 시퀀스/규칙 사용
+     * 카트 아이템이 참조하는 메뉴를 한 번의 IN 쿼리로 조회하여 id → 메뉴 맵으로 반환
+     * @throws IllegalArgumentException 존재하지 않는 메뉴가 있는 경우
      */
-    private String generateOrderNumber() {
-        return "ORD-" + System.currentTimeMillis();
+    private Map<Long, MenuEntity> loadMenus(List<CartItemEntity> cartItems) {
+        Set<Long> menuIds = new HashSet<>();
+        for (CartItemEntity item : cartItems) {
+            menuIds.add(item.getMenuId());
+        }
+
+        Map<Long, MenuEntity> menusById = new HashMap<>();
+        for (MenuEntity menu : menuRepository.findAllById(menuIds)) {
+            menusById.put(menu.getId(), menu);
+        }
+
+        for (Long menuId : menuIds) {
+            if (!menusById.containsKey(menuId)) {
+                throw new IllegalArgumentException("메뉴를 찾을 수 없습니다. id=" + menuId);
+            }
+        }
+        return menusById;
     }
 }
@@ -0,0 +1,79 @@
+package com.wheats.api.order.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Snowflake 방식 주문번호 생성기 (lock-free)
+ *
+ * 64bit ID = [41bit 타임스탬프(ms, 2024-01-01 기준)] [10bit 노드 ID] [12bit ms당 시퀀스]
+ * - 노드 ID(order.number.node-id)는 API 인스턴스마다 달라야 함 (0 ~ 1023)
+ * - 같은 ms에 4096개를 넘거나 시계가 뒤로 가면 다음 ms를 미리 사용 → 항상 단조 증가
+ * - 문자열은 "ORD-" + 36진수 대문자 12자리 = 16자 (2025~2059년, 이후 13자리)
+ */
+@Component
+public class SnowflakeOrderNumberGenerator implements OrderNumberGenerator {
+
+    private static final String PREFIX = "ORD-";
+
+    // 2024-01-01T00:00:00Z
+    private static final long EPOCH_MILLIS = 1704067200000L;
+
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private final long nodeId;
+    private final LongSupplier clock;
+
+    // (마지막 타임스탬프 << SEQUENCE_BITS) | 시퀀스
+    // 시퀀스가 넘치면 +1 연산이 그대로 타임스탬프로 올림되어 다음 ms로 넘어감
+    private final AtomicLong state = new AtomicLong();
+
+    @Autowired
+    public SnowflakeOrderNumberGenerator(@Value("${order.number.node-id:0}") long nodeId) {
+        this(nodeId, System::currentTimeMillis);
+    }
+
+    SnowflakeOrderNumberGenerator(long nodeId, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException(
+                    "order.number.node-id must be between 0 and " + MAX_NODE_ID + ": " + nodeId);
+        }
+        this.nodeId = nodeId;
+        this.clock = clock;
+    }
+
+    @Override
+    public String nextOrderNumber() {
+        return PREFIX + Long.toString(nextId(), Character.MAX_RADIX).toUpperCase();
+    }
+
+    /**
+     * 다음 64bit ID 생성 (CAS 루프, 락 없음)
+     */
+    public long nextId() {
+        long now = clock.getAsLong() - EPOCH_MILLIS;
+        while (true) {
+            long prev = state.get();
+            long prevTimestamp = prev >>> SEQUENCE_BITS;
+
+            long next = (now > prevTimestamp)
+                    ? now << SEQUENCE_BITS   // 새 ms → 시퀀스 0부터
+                    : prev + 1;              // 같은 ms(또는 시계 역행) → 시퀀스 증가
+
+            if (state.compareAndSet(prev, next)) {
+                long timestamp = next >>> SEQUENCE_BITS;
+                long sequence = next & SEQUENCE_MASK;
+                return (timestamp << (NODE_BITS + SEQUENCE_BITS))
+                        | (nodeId << SEQUENCE_BITS)
+                        | sequence;
+            }
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.wheats.api.store.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongFunction;
+
+/**
+ * 공개 가게/메뉴 API용 read-through 카탈로그 캐시
+ *
+ * - 스냅샷(CatalogSnapshot)을 통째로 들고 있다가, 버전이 바뀌었거나 너무 오래되면 다시 적재
+ * - 가게/메뉴 엔티티가 변경되면 CatalogChangeListener가 커밋 후 invalidate() 호출 → 버전 증가
+ * - DB를 직접 수정하는 경우를 대비해 최대 허용 나이(catalog.cache.max-staleness-seconds)를 둔다
+ * - 적재는 한 스레드만 수행하고, 나머지는 기존 스냅샷을 기다렸다가 새 스냅샷을 받는다
+ */
+@Component
+public class CatalogCache {
+
+    private final Duration maxStaleness;
+
+    private final AtomicLong version = new AtomicLong();
+    private final AtomicReference<CatalogSnapshot> snapshot = new AtomicReference<>();
+    private final ReentrantLock loadLock = new ReentrantLock();
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder loadCount = new LongAdder();
+    private final LongAdder invalidationCount = new LongAdder();
+
+    public CatalogCache(@Value("${catalog.cache.max-staleness-seconds:60}") long maxStalenessSeconds) {
+        this.maxStaleness = Duration.ofSeconds(maxStalenessSeconds);
+    }
+
+    /**
+     * 현재 스냅샷 조회 (없거나 무효화되었으면 loader로 다시 적재)
+     * @param loader 카탈로그 버전을 받아 새 스냅샷을 만드는 함수 (DB 조회)
+     */
+    public CatalogSnapshot get(LongFunction<CatalogSnapshot> loader) {
+        CatalogSnapshot current = snapshot.get();
+        if (isFresh(current)) {
+            hitCount.increment();
+            return current;
+        }
+
+        loadLock.lock();
+        try {
+            // 대기하는 동안 다른 스레드가 이미 적재했을 수 있음
+            current = snapshot.get();
+            if (isFresh(current)) {
+                hitCount.increment();
+                return current;
+            }
+
+            missCount.increment();
+            CatalogSnapshot loaded = loader.apply(version.get());
+            snapshot.set(loaded);
+            loadCount.increment();
+            return loaded;
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    /**
+     * 카탈로그 무효화 (버전 증가)
+     * - 트랜잭션 안에서 호출되면 커밋 이후에 반영 (커밋 전 데이터로 재적재되는 것을 방지)
+     */
+    public void invalidate() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bumpVersion();
+                }
+            });
+        } else {
+            bumpVersion();
+        }
+    }
+
+    private void bumpVersion() {
+        version.incrementAndGet();
+        invalidationCount.increment();
+    }
+
+    private boolean isFresh(CatalogSnapshot current) {
+        return current != null
+                && current.getVersion() == version.get()
+                && current.getLoadedAt().plus(maxStaleness).isAfter(Instant.now());
+    }
+
+    // ===== 통계 =====
+
+    /** 현재 카탈로그 버전 (변경될 때마다 1씩 증가) */
+    public long getVersion() {
+        return version.get();
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getLoadCount() {
+        return loadCount.sum();
+    }
+
+    public long getInvalidationCount() {
+        return invalidationCount.sum();
+    }
+
+    public double getHitRatio() {
+        long hits = getHitCount();
+        long total = hits + getMissCount();
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+
+    /**
+     * 현재 스냅샷의 나이(초) - 스냅샷이 없으면 -1
+     */
+    public double getStalenessSeconds() {
+        CatalogSnapshot current = snapshot.get();
+        if (current == null) {
+            return -1;
+        }
+        return Duration.between(current.getLoadedAt(), Instant.now()).toMillis() / 1000.0;
+    }
+}
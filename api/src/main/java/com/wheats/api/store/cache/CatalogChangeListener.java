@@ -0,0 +1,27 @@
+package com.wheats.api.store.cache;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.stereotype.Component;
+
+/**
+ * StoreEntity / MenuEntity 변경 감지 → 카탈로그 캐시 무효화
+ * (@EntityListeners로 등록, Spring Boot가 Hibernate에 빈 컨테이너를 연결해주므로 생성자 주입 가능)
+ */
+@Component
+public class CatalogChangeListener {
+
+    private final CatalogCache catalogCache;
+
+    public CatalogChangeListener(CatalogCache catalogCache) {
+        this.catalogCache = catalogCache;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onCatalogChange(Object entity) {
+        catalogCache.invalidate();
+    }
+}
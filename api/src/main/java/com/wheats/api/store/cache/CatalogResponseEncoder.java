@@ -0,0 +1,77 @@
+package com.wheats.api.store.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 카탈로그 응답을 JSON 바이트(+ gzip)로 한 번만 인코딩해 스냅샷에 붙여 두는 컴포넌트
+ *
+ * - 스냅샷은 불변이므로 같은 스냅샷 + 같은 키(목록 페이지, 상세 등)의 응답 바이트도 항상 같다
+ * - 첫 요청에서만 Jackson 직렬화/gzip 압축을 하고, 이후 요청은 바이트 배열을 그대로 쓴다
+ * - 스냅샷이 교체되면 함께 버려지므로 별도 무효화가 필요 없다
+ * - 키 종류가 무한히 늘어나지 않도록 스냅샷당 최대 항목 수를 두고, 넘치면 캐시 없이 매번 인코딩
+ */
+@Component
+public class CatalogResponseEncoder {
+
+    private final ObjectMapper objectMapper;
+    private final int maxEntries;
+    private final int gzipMinBytes;
+
+    public CatalogResponseEncoder(ObjectMapper objectMapper,
+                                  @Value("${catalog.response.max-entries:1024}") int maxEntries,
+                                  @Value("${catalog.response.gzip-min-bytes:1024}") int gzipMinBytes) {
+        this.objectMapper = objectMapper;
+        this.maxEntries = maxEntries;
+        this.gzipMinBytes = gzipMinBytes;
+    }
+
+    /**
+     * 스냅샷에 캐시된 인코딩 결과 조회 (없으면 body를 만들어 인코딩 후 저장)
+     * @param snapshot 응답의 기준이 되는 스냅샷
+     * @param key 스냅샷 안에서 응답을 구분하는 키 (예: "detail:3")
+     * @param body 응답 객체를 만드는 함수 (예외가 나면 캐시하지 않고 그대로 전달)
+     */
+    public EncodedResponse encode(CatalogSnapshot snapshot, String key, Supplier<?> body) {
+        Map<String, EncodedResponse> cache = snapshot.getEncodedResponses();
+        EncodedResponse cached = cache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        if (cache.size() >= maxEntries) {
+            return encode(body.get());
+        }
+        return cache.computeIfAbsent(key, k -> encode(body.get()));
+    }
+
+    private EncodedResponse encode(Object body) {
+        byte[] bytes;
+        try {
+            bytes = objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("카탈로그 응답 직렬화 실패", e);
+        }
+        byte[] gzipBytes = (gzipMinBytes > 0 && bytes.length >= gzipMinBytes) ? gzip(bytes) : null;
+        return new EncodedResponse(bytes, gzipBytes);
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            // 메모리 스트림이므로 실제로는 발생하지 않음
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,215 @@
+package com.wheats.api.store.cache;
+
+import com.wheats.api.store.dto.MenuItem;
+import com.wheats.api.store.dto.Store;
+import com.wheats.api.store.dto.StoreDetailResponse;
+import com.wheats.api.store.dto.StorePageResponse;
+import com.wheats.api.store.dto.StoreSort;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 가게/메뉴 카탈로그 스냅샷 (불변)
+ * - 한 번 만들어진 스냅샷은 수정하지 않고, 변경이 생기면 새 스냅샷으로 통째로 교체한다.
+ * - 안에 든 DTO(Store, MenuItem)도 공유 객체이므로 꺼내 쓰는 쪽에서 수정하면 안 됨
+ */
+public final class CatalogSnapshot {
+
+    private final long version;
+    private final Instant loadedAt;
+    private final String contentHash;
+    private final String eTag;
+    private final String gzipETag;
+    private final List<Store> stores;
+    private final Map<Long, StoreDetailResponse> detailsByStoreId;
+
+    // keyset 페이지네이션용 정렬 뷰 (전체 / 카테고리별) - 스냅샷 생성 시 한 번만 정렬
+    private final List<Store> storesByRating;
+    private final Map<String, List<Store>> storesByCategoryById;
+    private final Map<String, List<Store>> storesByCategoryByRating;
+
+    // 이 스냅샷 기준으로 미리 인코딩한 응답 바이트 (CatalogResponseEncoder가 채움)
+    // - 스냅샷 데이터에서 파생된 값일 뿐이라 스냅샷의 불변성은 유지된다
+    private final Map<String, EncodedResponse> encodedResponses = new ConcurrentHashMap<>();
+
+    /**
+     * @param version 스냅샷을 만들 당시의 카탈로그 버전
+     * @param stores 전체 가게 목록
+     * @param menusByStoreId 가게별 판매 중 메뉴 목록
+     */
+    public CatalogSnapshot(long version,
+                           Instant loadedAt,
+                           List<Store> stores,
+                           Map<Long, List<MenuItem>> menusByStoreId) {
+        this.version = version;
+        this.loadedAt = loadedAt;
+        Map<Long, StoreDetailResponse> details = new LinkedHashMap<>();
+        for (Store store : stores) {
+            List<MenuItem> menus = menusByStoreId.getOrDefault(store.getId(), List.of());
+            details.put(store.getId(), new StoreDetailResponse(store, List.copyOf(menus)));
+        }
+        this.detailsByStoreId = Collections.unmodifiableMap(details);
+
+        List<Store> byId = new ArrayList<>(stores);
+        byId.sort(StoreCursor.ID_ORDER);
+        this.stores = List.copyOf(byId);
+        this.contentHash = contentHash(this.stores, menusByStoreId);
+        this.eTag = "\"catalog-" + contentHash + "\"";
+        this.gzipETag = "\"catalog-" + contentHash + "-gz\"";
+        List<Store> byRating = new ArrayList<>(stores);
+        byRating.sort(StoreCursor.RATING_ORDER);
+        this.storesByRating = List.copyOf(byRating);
+
+        Map<String, List<Store>> categoryById = new HashMap<>();
+        for (Store store : byId) {
+            categoryById.computeIfAbsent(store.getCategory(), c -> new ArrayList<>()).add(store);
+        }
+        Map<String, List<Store>> categoryByRating = new HashMap<>();
+        for (Store store : byRating) {
+            categoryByRating.computeIfAbsent(store.getCategory(), c -> new ArrayList<>()).add(store);
+        }
+        this.storesByCategoryById = copyOfLists(categoryById);
+        this.storesByCategoryByRating = copyOfLists(categoryByRating);
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public Instant getLoadedAt() {
+        return loadedAt;
+    }
+
+    /**
+     * 가게/메뉴 내용의 해시 (32자리 hex)
+     * - 내용이 같으면 재시작/인스턴스와 관계없이 같은 값 → 여러 인스턴스가 공유하는 캐시의 카탈로그 표식으로 사용
+     */
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    /**
+     * 공개 가게/메뉴 응답의 HTTP ETag (strong)
+     * - 가게/메뉴 내용의 해시로 만든다 → max-staleness로 재적재돼도 내용이 같으면 값이 그대로
+     * - 카탈로그 버전은 프로세스마다 0부터 세므로 재시작/인스턴스 간에 같은 번호가 다른 내용을 가리킬 수 있어 쓰지 않음
+     */
+    public String getETag() {
+        return eTag;
+    }
+
+    /**
+     * gzip 압축본 응답의 HTTP ETag (strong)
+     * - 압축본은 바이트가 다른 별도 표현이므로 identity 본문과 같은 strong ETag를 쓰면 안 된다
+     */
+    public String getGzipETag() {
+        return gzipETag;
+    }
+
+    Map<String, EncodedResponse> getEncodedResponses() {
+        return encodedResponses;
+    }
+
+    public List<Store> getStores() {
+        return stores;
+    }
+
+    /**
+     * @return 가게 상세 (없으면 null)
+     */
+    public StoreDetailResponse getStoreDetail(Long storeId) {
+        return detailsByStoreId.get(storeId);
+    }
+
+    /**
+     * 가게 목록 한 페이지 (keyset)
+     * - 커서 다음 위치를 이진 탐색으로 찾으므로 페이지 깊이와 관계없이 O(log n + size)
+     * @param sort 정렬 기준
+     * @param category 카테고리 필터 (null이면 전체)
+     * @param cursor 이전 페이지의 마지막 위치 (null이면 첫 페이지)
+     * @param size 페이지 크기
+     */
+    public StorePageResponse page(StoreSort sort, String category, StoreCursor cursor, int size) {
+        List<Store> view = sortedView(sort, category);
+        Comparator<Store> order = (sort == StoreSort.RATING) ? StoreCursor.RATING_ORDER : StoreCursor.ID_ORDER;
+
+        int from = (cursor == null) ? 0 : firstIndexAfter(view, cursor.toKey(), order);
+        int to = Math.min(from + size, view.size());
+        List<Store> items = view.subList(from, to);
+
+        boolean hasNext = to < view.size();
+        String nextCursor = hasNext ? StoreCursor.after(sort, items.get(items.size() - 1)).encode() : null;
+        return new StorePageResponse(items, nextCursor, hasNext);
+    }
+
+    private List<Store> sortedView(StoreSort sort, String category) {
+        if (category == null) {
+            return (sort == StoreSort.RATING) ? storesByRating : stores;
+        }
+        Map<String, List<Store>> index = (sort == StoreSort.RATING) ? storesByCategoryByRating : storesByCategoryById;
+        return index.getOrDefault(category, List.of());
+    }
+
+    /**
+     * 정렬된 목록에서 key보다 뒤에 오는 첫 위치 (upper bound)
+     */
+    private static int firstIndexAfter(List<Store> view, Store key, Comparator<Store> order) {
+        int low = 0;
+        int high = view.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (order.compare(view.get(mid), key) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * 가게(id 순) + 가게별 메뉴 필드를 SHA-256으로 요약 (앞 16바이트, hex)
+     */
+    private static String contentHash(List<Store> storesById, Map<Long, List<MenuItem>> menusByStoreId) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256은 모든 JVM에서 지원됨
+            throw new IllegalStateException("SHA-256 algorithm not available", e);
+        }
+        StringBuilder fields = new StringBuilder();
+        for (Store store : storesById) {
+            fields.setLength(0);
+            fields.append("S|").append(store.getId()).append('|').append(store.getName())
+                    .append('|').append(store.getCategory()).append('|').append(store.getDescription())
+                    .append('|').append(store.getMinOrderPrice()).append('|').append(store.getDeliveryTip())
+                    .append('|').append(store.getRating()).append('|').append(store.getReviewCount())
+                    .append('|').append(store.getStatus()).append('|').append(store.getImageUrl()).append('\n');
+            for (MenuItem menu : menusByStoreId.getOrDefault(store.getId(), List.of())) {
+                fields.append("M|").append(menu.getId()).append('|').append(menu.getName())
+                        .append('|').append(menu.getPrice()).append('|').append(menu.getDescription())
+                        .append('|').append(menu.getAvailable()).append('|').append(menu.getImageUrl()).append('\n');
+            }
+            digest.update(fields.toString().getBytes(StandardCharsets.UTF_8));
+        }
+        return HexFormat.of().formatHex(digest.digest(), 0, 16);
+    }
+
+    private static Map<String, List<Store>> copyOfLists(Map<String, List<Store>> source) {
+        Map<String, List<Store>> copy = new HashMap<>();
+        source.forEach((key, value) -> copy.put(key, List.copyOf(value)));
+        return Collections.unmodifiableMap(copy);
+    }
+}
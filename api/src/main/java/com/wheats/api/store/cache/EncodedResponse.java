@@ -0,0 +1,30 @@
+package com.wheats.api.store.cache;
+
+/**
+ * 미리 직렬화해 둔 JSON 응답 본문 (불변)
+ * - bytes: UTF-8 JSON
+ * - gzipBytes: 같은 본문의 gzip 압축본 (작은 응답이면 null)
+ * - 배열은 여러 요청이 공유하므로 꺼내 쓰는 쪽에서 수정하면 안 됨
+ */
+public final class EncodedResponse {
+
+    private final byte[] bytes;
+    private final byte[] gzipBytes;
+
+    EncodedResponse(byte[] bytes, byte[] gzipBytes) {
+        this.bytes = bytes;
+        this.gzipBytes = gzipBytes;
+    }
+
+    public byte[] getBytes() {
+        return bytes;
+    }
+
+    public byte[] getGzipBytes() {
+        return gzipBytes;
+    }
+
+    public boolean hasGzip() {
+        return gzipBytes != null;
+    }
+}
@@ -0,0 +1,79 @@
+package com.wheats.api.store.cache;
+
+import com.wheats.api.store.dto.Store;
+import com.wheats.api.store.dto.StoreSort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Comparator;
+
+/**
+ * 가게 목록 keyset 커서 (마지막으로 받은 가게의 정렬 키)
+ * - ID 정렬    : id
+ * - RATING 정렬: (rating, id)
+ * 클라이언트에는 URL-safe Base64 문자열로 전달 (형식은 클라이언트가 해석하지 않음)
+ */
+public final class StoreCursor {
+
+    /** 평점 내림차순(없으면 마지막) → id 오름차순 */
+    static final Comparator<Store> RATING_ORDER = Comparator
+            .comparing(Store::getRating, Comparator.nullsLast(Comparator.<Double>reverseOrder()))
+            .thenComparing(Store::getId);
+
+    static final Comparator<Store> ID_ORDER = Comparator.comparing(Store::getId);
+
+    private final StoreSort sort;
+    private final Double rating;
+    private final long id;
+
+    private StoreCursor(StoreSort sort, Double rating, long id) {
+        this.sort = sort;
+        this.rating = rating;
+        this.id = id;
+    }
+
+    static StoreCursor after(StoreSort sort, Store last) {
+        return new StoreCursor(sort, sort == StoreSort.RATING ? last.getRating() : null, last.getId());
+    }
+
+    public StoreSort getSort() {
+        return sort;
+    }
+
+    /**
+     * 커서 위치를 정렬 비교용 Store 키로 변환
+     */
+    Store toKey() {
+        Store key = new Store();
+        key.setId(id);
+        key.setRating(rating);
+        return key;
+    }
+
+    public String encode() {
+        String raw = (sort == StoreSort.RATING)
+                ? "r:" + (rating != null ? rating : "") + ":" + id
+                : "i:" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException 형식이 잘못되었거나 정렬 기준이 다른 커서
+     */
+    public static StoreCursor decode(String cursor, StoreSort expectedSort) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(":", -1);
+            if (expectedSort == StoreSort.ID && parts.length == 2 && parts[0].equals("i")) {
+                return new StoreCursor(StoreSort.ID, null, Long.parseLong(parts[1]));
+            }
+            if (expectedSort == StoreSort.RATING && parts.length == 3 && parts[0].equals("r")) {
+                Double rating = parts[1].isEmpty() ? null : Double.valueOf(parts[1]);
+                return new StoreCursor(StoreSort.RATING, rating, Long.parseLong(parts[2]));
+            }
+        } catch (IllegalArgumentException e) {
+            // Base64/숫자 형식 오류 → 아래에서 한 번에 처리
+        }
+        throw new IllegalArgumentException("Invalid cursor: " + cursor);
+    }
+}
@@ -1,22 +1,30 @@
 package com.wheats.api.store.controller;
 
-import com.wheats.api.store.dto.MenuItem;
+import com.wheats.api.store.cache.CatalogSnapshot;
+import com.wheats.api.store.cache.EncodedResponse;
 import com.wheats.api.store.dto.Store;
-import com.wheats.api.store.dto.StoreDetailResponse;
+import com.wheats.api.store.dto.StoreSort;
 import com.wheats.api.store.dto.StoreStatus;
 import com.wheats.api.store.service.StoreService;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
-import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
 import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/stores")
 public class StoreController {
 
+    // 클라이언트는 캐시해 두되 매번 ETag로 재검증 (공개 데이터라 Authorization 헤더가 있어도 캐시 허용)
+    private static final CacheControl CATALOG_CACHE_CONTROL = CacheControl.noCache().cachePublic();
+
     private final StoreService storeService;
 
     public StoreController(StoreService storeService) {
@@ -24,12 +32,33 @@ public class StoreController {
     }
 
     // =============================
-    //  가게 목록
-    //  GET /api/stores
+    //  가게 목록 (keyset 페이지네이션)
+    //  GET /api/stores?size=20&sort=id|rating&category=치킨&cursor=...
+    //  - 응답: { items, nextCursor, hasNext } → 다음 페이지는 cursor=nextCursor
+    //  - all=true : 기존 방식(전체 목록 배열) 그대로 반환 (하위 호환용)
+    //  - If-None-Match가 현재 카탈로그 ETag(identity 또는 -gz)와 같으면 304 (본문 없음)
+    //    단, 잘못된 sort/커서(400)나 없는 가게(404)는 ETag가 같아도 304가 아니라 오류로 응답
     // =============================
     @GetMapping
-    public List<Store> getStores() {
-        return storeService.getAllStores();
+    public ResponseEntity<byte[]> getStores(
+            @RequestParam(value = "all", defaultValue = "false") boolean all,
+            @RequestParam(value = "size", defaultValue = "" + StoreService.DEFAULT_PAGE_SIZE) int size,
+            @RequestParam(value = "sort", defaultValue = "id") String sort,
+            @RequestParam(value = "category", required = false) String category,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            WebRequest webRequest) {
+        CatalogSnapshot catalog = storeService.getCatalogSnapshot();
+        if (all) {
+            return conditionalResponse(webRequest, catalog, storeService.getAllStoresEncoded(catalog));
+        }
+        try {
+            StoreSort storeSort = StoreSort.valueOf(sort.toUpperCase());
+            EncodedResponse page = storeService.getStorePageEncoded(catalog, storeSort, category, cursor, size);
+            return conditionalResponse(webRequest, catalog, page);
+        } catch (IllegalArgumentException e) {
+            // 잘못된 sort 값 또는 커서
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
     }
 
     // =============================
@@ -37,10 +66,10 @@ public class StoreController {
     //  GET /api/stores/{storeId}
     // =============================
     @GetMapping("/{storeId}")
-    public ResponseEntity<StoreDetailResponse> getStoreDetail(@PathVariable Long storeId) {
+    public ResponseEntity<byte[]> getStoreDetail(@PathVariable Long storeId, WebRequest webRequest) {
+        CatalogSnapshot catalog = storeService.getCatalogSnapshot();
         try {
-            StoreDetailResponse detail = storeService.getStoreDetail(storeId);
-            return ResponseEntity.ok(detail);
+            return conditionalResponse(webRequest, catalog, storeService.getStoreDetailEncoded(catalog, storeId));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
         }
@@ -51,19 +80,123 @@ public class StoreController {
     //  GET /api/stores/{storeId}/menus
     // =============================
     @GetMapping("/{storeId}/menus")
-    public ResponseEntity<List<MenuItem>> getStoreMenus(@PathVariable Long storeId) {
+    public ResponseEntity<byte[]> getStoreMenus(@PathVariable Long storeId, WebRequest webRequest) {
+        CatalogSnapshot catalog = storeService.getCatalogSnapshot();
         try {
-            StoreDetailResponse detail = storeService.getStoreDetail(storeId);
-            List<MenuItem> menus = detail.getMenus();
-            if (menus == null) {
-                menus = Collections.emptyList();
-            }
-            return ResponseEntity.ok(menus);
+            return conditionalResponse(webRequest, catalog, storeService.getStoreMenusEncoded(catalog, storeId));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
         }
     }
 
+    /**
+     * 요청 검증(400/404)을 통과한 응답에 조건부 GET 적용
+     * - encoded를 먼저 구해야 하므로 없는 가게/잘못된 커서는 여기까지 오지 않는다
+     *   (인코딩 결과는 스냅샷에 캐시되므로 304 경로도 직렬화는 스냅샷당 한 번뿐)
+     */
+    private ResponseEntity<byte[]> conditionalResponse(WebRequest webRequest, CatalogSnapshot catalog,
+                                                       EncodedResponse encoded) {
+        ResponseEntity<byte[]> notModified = notModified(webRequest, catalog);
+        if (notModified != null) {
+            return notModified;
+        }
+        return catalogResponse(webRequest, catalog, encoded);
+    }
+
+    /**
+     * 조건부 GET 처리 (If-None-Match)
+     * - identity / gzip 표현 중 어느 쪽 ETag와 일치해도 304 (W/ 접두어는 무시하는 weak 비교)
+     * - 스냅샷의 ETag만 비교
+     * @return 304 응답 (일치하지 않으면 null)
+     */
+    private static ResponseEntity<byte[]> notModified(WebRequest webRequest, CatalogSnapshot catalog) {
+        String ifNoneMatch = webRequest.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch == null) {
+            return null;
+        }
+        for (String tag : ifNoneMatch.split(",")) {
+            String candidate = tag.trim();
+            if (candidate.startsWith("W/")) {
+                candidate = candidate.substring(2);
+            }
+            if (candidate.equals("*")) {
+                candidate = catalog.getETag();
+            }
+            if (candidate.equals(catalog.getETag()) || candidate.equals(catalog.getGzipETag())) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .cacheControl(CATALOG_CACHE_CONTROL)
+                        .eTag(candidate)
+                        .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                        .build();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 카탈로그 기반 200 응답 (ETag / Cache-Control 포함)
+     * - Last-Modified는 보내지 않는다 (적재 시각은 내용 변경 시각이 아니라 재적재마다 바뀜)
+     * - 본문은 스냅샷에 캐시된 JSON 바이트를 그대로 쓴다 (요청마다 Jackson 직렬화 없음)
+     * - 클라이언트가 gzip을 받을 수 있고 압축본이 있으면 압축본을 그대로 전송 (ETag도 압축본 전용 값)
+     */
+    private ResponseEntity<byte[]> catalogResponse(WebRequest webRequest, CatalogSnapshot catalog,
+                                                   EncodedResponse encoded) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(CATALOG_CACHE_CONTROL)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+
+        if (encoded.hasGzip() && acceptsGzip(webRequest)) {
+            return builder.eTag(catalog.getGzipETag())
+                    .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .body(encoded.getGzipBytes());
+        }
+        return builder.eTag(catalog.getETag()).body(encoded.getBytes());
+    }
+
+    /**
+     * Accept-Encoding으로 gzip을 받을 수 있는지 판단
+     * - 코딩 이름은 대소문자 무시, x-gzip은 gzip과 같은 것으로 본다
+     * - q=0 은 "받지 않음" → gzip;q=0 / x-gzip;q=0 이면 identity 본문
+     * - gzip이 명시되지 않았으면 "*" 항목을 따른다 (*;q=0 이면 identity)
+     */
+    private static boolean acceptsGzip(WebRequest webRequest) {
+        String acceptEncoding = webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Boolean gzip = null;
+        boolean wildcard = false;
+        for (String element : acceptEncoding.split(",")) {
+            String[] parts = element.split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            boolean acceptable = qValue(parts) > 0;
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                gzip = (gzip != null && gzip) || acceptable;
+            } else if (coding.equals("*")) {
+                wildcard = acceptable;
+            }
+        }
+        return (gzip != null) ? gzip : wildcard;
+    }
+
+    /**
+     * 코딩 항목의 q 값 (없으면 1, 형식이 잘못되었으면 0 → 압축하지 않는 쪽으로)
+     */
+    private static double qValue(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String param = parts[i].trim();
+            if (param.length() > 2 && (param.charAt(0) == 'q' || param.charAt(0) == 'Q') && param.charAt(1) == '=') {
+                try {
+                    return Double.parseDouble(param.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
     // =============================
     //  🔥 점주 대시보드
     //  GET /api/stores/owners/{ownerId}/dashboard
@@ -0,0 +1,26 @@
+package com.wheats.api.store.dto;
+
+import java.util.List;
+
+/**
+ * 가게 목록 페이지 응답 (keyset 커서 방식)
+ * - 다음 페이지는 nextCursor를 cursor 파라미터로 넘겨서 요청
+ */
+public class StorePageResponse {
+
+    private List<Store> items;
+    private String nextCursor;   // 마지막 페이지면 null
+    private boolean hasNext;
+
+    public StorePageResponse(List<Store> items, String nextCursor, boolean hasNext) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+    }
+
+    public List<Store> getItems() { return items; }
+
+    public String getNextCursor() { return nextCursor; }
+
+    public boolean isHasNext() { return hasNext; }
+}
@@ -0,0 +1,9 @@
+package com.wheats.api.store.dto;
+
+/**
+ * 가게 목록 정렬 기준 (keyset 페이지네이션)
+ */
+public enum StoreSort {
+    ID,      // id 오름차순 (기본)
+    RATING   // 평점 내림차순 → id 오름차순 (평점 없는 가게는 마지막)
+}
@@ -1,9 +1,11 @@
 package com.wheats.api.store.entity;
 
+import com.wheats.api.store.cache.CatalogChangeListener;
 import jakarta.persistence.*;
 
 @Entity
 @Table(name = "stores")
+@EntityListeners(CatalogChangeListener.class)   // 변경 시 카탈로그 캐시 무효화
 public class StoreEntity {
 
     @Id
@@ -9,4 +9,7 @@ public interface MenuRepository extends JpaRepository<MenuEntity, Long> {
 
     // store_id로 메뉴 조회 (판매 중인 것만)
     List<MenuEntity> findByStoreIdAndIsAvailableTrue(Long storeId);
+
+    // 전체 가게의 판매 중 메뉴 (카탈로그 캐시 적재용)
+    List<MenuEntity> findByIsAvailableTrueOrderByStoreIdAscIdAsc();
 }
@@ -3,5 +3,10 @@ package com.wheats.api.store.repository;
 import com.wheats.api.store.entity.StoreEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.List;
+
 public interface StoreRepository extends JpaRepository<StoreEntity, Long> {
+
+    // 전체 가게 (id 순, 카탈로그 캐시 적재용)
+    List<StoreEntity> findAllByOrderByIdAsc();
 }
@@ -1,8 +1,15 @@
 package com.wheats.api.store.service;
 
+import com.wheats.api.store.cache.CatalogCache;
+import com.wheats.api.store.cache.CatalogResponseEncoder;
+import com.wheats.api.store.cache.CatalogSnapshot;
+import com.wheats.api.store.cache.EncodedResponse;
+import com.wheats.api.store.cache.StoreCursor;
 import com.wheats.api.store.dto.MenuItem;
 import com.wheats.api.store.dto.Store;
 import com.wheats.api.store.dto.StoreDetailResponse;
+import com.wheats.api.store.dto.StorePageResponse;
+import com.wheats.api.store.dto.StoreSort;
 import com.wheats.api.store.dto.StoreStatus;
 import com.wheats.api.store.entity.StoreEntity;
 import com.wheats.api.store.entity.MenuEntity;
@@ -10,52 +17,142 @@ import com.wheats.api.store.repository.StoreRepository;
 import com.wheats.api.store.repository.MenuRepository;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 public class StoreService {
 
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
     private final StoreRepository storeRepository;
     private final MenuRepository menuRepository;
+    private final CatalogCache catalogCache;
+    private final CatalogResponseEncoder responseEncoder;
 
     public StoreService(StoreRepository storeRepository,
-                        MenuRepository menuRepository) {
+                        MenuRepository menuRepository,
+                        CatalogCache catalogCache,
+                        CatalogResponseEncoder responseEncoder) {
         this.storeRepository = storeRepository;
         this.menuRepository = menuRepository;
+        this.catalogCache = catalogCache;
+        this.responseEncoder = responseEncoder;
+    }
+
+    /**
+     * 현재 카탈로그 스냅샷 (HTTP 조건부 요청의 ETag 계산용)
+     */
+    public CatalogSnapshot getCatalogSnapshot() {
+        return catalogCache.get(this::loadCatalog);
     }
 
-    /** 전체 목록 조회 */
+    /** 전체 목록 조회 (카탈로그 캐시) */
     public List<Store> getAllStores() {
-        List<Store> result = new ArrayList<>();
-        for (StoreEntity entity : storeRepository.findAll()) {
-            result.add(toStoreDto(entity));
-        }
-        return result;
+        return catalogCache.get(this::loadCatalog).getStores();
+    }
+
+    /**
+     * 목록 페이지 조회 (keyset 커서, 카탈로그 캐시)
+     * @param sort 정렬 기준
+     * @param category 카테고리 필터 (null/빈 값이면 전체)
+     * @param cursor 이전 페이지 응답의 nextCursor (null/빈 값이면 첫 페이지)
+     * @param size 페이지 크기 (1 ~ MAX_PAGE_SIZE로 보정)
+     * @throws IllegalArgumentException 잘못된 커서
+     */
+    public StorePageResponse getStorePage(StoreSort sort, String category, String cursor, int size) {
+        return page(catalogCache.get(this::loadCatalog), sort, category, cursor, size);
     }
 
-    /** 상세 조회: Store + 메뉴 리스트 (실제 DB에서 메뉴 조회) */
+    /** 상세 조회: Store + 판매 중 메뉴 리스트 (카탈로그 캐시) */
     public StoreDetailResponse getStoreDetail(Long id) {
-        StoreEntity entity = storeRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("Store Not Found: " + id));
+        return detail(catalogCache.get(this::loadCatalog), id);
+    }
+
+    // ===== 미리 인코딩된 응답 (컨트롤러가 JSON 바이트를 그대로 내려보낼 때 사용) =====
+    // - 모두 인자로 받은 스냅샷 하나만 기준으로 만든다 → ETag와 본문이 항상 같은 스냅샷에서 나옴
+
+    /** 전체 목록 JSON */
+    public EncodedResponse getAllStoresEncoded(CatalogSnapshot catalog) {
+        return responseEncoder.encode(catalog, "all", catalog::getStores);
+    }
 
-        Store storeDto = toStoreDto(entity);
+    /**
+     * 목록 페이지 JSON
+     * @throws IllegalArgumentException 잘못된 커서 (캐시에 남지 않음)
+     */
+    public EncodedResponse getStorePageEncoded(CatalogSnapshot catalog, StoreSort sort,
+                                               String category, String cursor, int size) {
+        String cursorKey = (cursor == null || cursor.isBlank()) ? "" : cursor;
+        String categoryKey = (category == null || category.isBlank()) ? "" : category;
+        int pageSize = clampPageSize(size);
+        // 커서(base64url)에는 ':'가 없으므로 카테고리를 마지막에 두면 키가 겹치지 않는다
+        String key = "page:" + sort + ":" + pageSize + ":" + cursorKey + ":" + categoryKey;
+        return responseEncoder.encode(catalog, key, () -> page(catalog, sort, category, cursor, size));
+    }
 
-        // 🔥 여기서 실제 DB에서 메뉴 가져오기
-        // MenuRepository에 아래 메서드가 있다고 가정:
-        // List<MenuEntity> findByStoreIdAndIsAvailableTrue(Long storeId);
-        List<MenuEntity> menuEntities = menuRepository.findByStoreIdAndIsAvailableTrue(id);
+    /**
+     * 상세 JSON
+     * @throws IllegalArgumentException 없는 가게
+     */
+    public EncodedResponse getStoreDetailEncoded(CatalogSnapshot catalog, Long id) {
+        return responseEncoder.encode(catalog, "detail:" + id, () -> detail(catalog, id));
+    }
+
+    /**
+     * 메뉴 목록 JSON
+     * @throws IllegalArgumentException 없는 가게
+     */
+    public EncodedResponse getStoreMenusEncoded(CatalogSnapshot catalog, Long id) {
+        return responseEncoder.encode(catalog, "menus:" + id, () -> {
+            List<MenuItem> menus = detail(catalog, id).getMenus();
+            return menus != null ? menus : List.of();
+        });
+    }
+
+    private StorePageResponse page(CatalogSnapshot catalog, StoreSort sort, String category, String cursor, int size) {
+        StoreCursor after = (cursor == null || cursor.isBlank()) ? null : StoreCursor.decode(cursor, sort);
+        String categoryFilter = (category == null || category.isBlank()) ? null : category;
+        return catalog.page(sort, categoryFilter, after, clampPageSize(size));
+    }
+
+    private StoreDetailResponse detail(CatalogSnapshot catalog, Long id) {
+        StoreDetailResponse detail = catalog.getStoreDetail(id);
+        if (detail == null) {
+            throw new IllegalArgumentException("Store Not Found: " + id);
+        }
+        return detail;
+    }
+
+    private static int clampPageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+
+    /**
+     * 카탈로그 스냅샷 적재: 가게 전체 1번 + 판매 중 메뉴 전체 1번 조회
+     * @param version 적재 시점의 카탈로그 버전
+     */
+    private CatalogSnapshot loadCatalog(long version) {
+        List<Store> stores = new ArrayList<>();
+        for (StoreEntity entity : storeRepository.findAllByOrderByIdAsc()) {
+            stores.add(toStoreDto(entity));
+        }
 
-        List<MenuItem> menus = new ArrayList<>();
-        for (MenuEntity m : menuEntities) {
-            menus.add(toMenuItemDto(m));
+        Map<Long, List<MenuItem>> menusByStoreId = new HashMap<>();
+        for (MenuEntity m : menuRepository.findByIsAvailableTrueOrderByStoreIdAscIdAsc()) {
+            menusByStoreId.computeIfAbsent(m.getStoreId(), storeId -> new ArrayList<>())
+                    .add(toMenuItemDto(m));
         }
 
-        return new StoreDetailResponse(storeDto, menus);
+        return new CatalogSnapshot(version, Instant.now(), stores, menusByStoreId);
     }
 
     /** Store Entity → DTO 변환 */
-    private Store toStoreDto(StoreEntity e) {
+    Store toStoreDto(StoreEntity e) {
         Store dto = new Store();
         dto.setId(e.getId());
         dto.setName(e.getName());
@@ -75,7 +172,7 @@ public class StoreService {
     }
 
     /** Menu Entity → MenuItem DTO 변환 */
-    private MenuItem toMenuItemDto(MenuEntity e) {
+    MenuItem toMenuItemDto(MenuEntity e) {
         MenuItem dto = new MenuItem();
         dto.setId(e.getId());
         dto.setName(e.getName());
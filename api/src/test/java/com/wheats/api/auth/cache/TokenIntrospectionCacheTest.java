@@ -0,0 +1,62 @@
+package com.wheats.api.auth.cache;
+
+import com.wheats.api.auth.dto.AuthenticatedUser;
+import com.wheats.api.mypage.entity.UserRole;
+import com.wheats.api.support.MutableClock;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenIntrospectionCacheTest {
+
+    private static final Duration TTL = Duration.ofMinutes(5);
+    private static final Duration STALE_GRACE = Duration.ofMinutes(10);
+    private static final String TOKEN = "access-token";
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2027-01-15T08:00:00Z"));
+    private final TokenIntrospectionCache cache = new TokenIntrospectionCache(100, TTL, STALE_GRACE, clock);
+    private final AuthenticatedUser user = new AuthenticatedUser(42L, UserRole.CONSUMER);
+
+    @Test
+    void getStale_returnsUserWithinGraceAfterTtl() {
+        cache.put(TOKEN, user, null);
+        clock.advance(TTL.plusSeconds(1));
+
+        assertThat(cache.get(TOKEN)).isEmpty();
+        assertThat(cache.getStale(TOKEN)).contains(user);
+        assertThat(cache.getStaleHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void getStale_returnsNothingAfterGrace() {
+        cache.put(TOKEN, user, null);
+        clock.advance(TTL.plus(STALE_GRACE));
+
+        assertThat(cache.getStale(TOKEN)).isEmpty();
+    }
+
+    @Test
+    void getStale_neverOutlivesTokenExpiry() {
+        // TTL보다 늦게, 유예 기한보다 먼저 만료되는 토큰
+        Instant tokenExpiresAt = clock.instant().plus(TTL).plusSeconds(60);
+        cache.put(TOKEN, user, tokenExpiresAt);
+
+        clock.advance(TTL.plusSeconds(30));
+        assertThat(cache.getStale(TOKEN)).contains(user);
+
+        clock.advance(Duration.ofSeconds(30));
+        assertThat(cache.getStale(TOKEN)).isEmpty();
+    }
+
+    @Test
+    void getStale_isDisabledWithZeroGrace() {
+        TokenIntrospectionCache noGrace = new TokenIntrospectionCache(100, TTL, Duration.ZERO, clock);
+        noGrace.put(TOKEN, user, null);
+        clock.advance(TTL);
+
+        assertThat(noGrace.getStale(TOKEN)).isEmpty();
+    }
+}
@@ -0,0 +1,104 @@
+package com.wheats.api.auth.interceptor;
+
+import com.wheats.api.auth.cache.RejectedTokenCache;
+import com.wheats.api.auth.dto.AuthenticatedUser;
+import com.wheats.api.auth.ratelimit.UnauthorizedRateLimiter;
+import com.wheats.api.auth.service.OAuthTokenService;
+import com.wheats.api.mypage.entity.UserRole;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * application.yml 기본값 그대로 (거절 캐시 켬 / TTL 30초, 허용량 20 / 초당 1개 회복)
+ */
+class AuthInterceptorTest {
+
+    private static final int CAPACITY = 20;
+    private static final String CLIENT = "203.0.113.7";
+
+    private final OAuthTokenService oauthTokenService = mock(OAuthTokenService.class);
+    private final RejectedTokenCache rejectedTokenCache = new RejectedTokenCache(10000, 30);
+    private final UnauthorizedRateLimiter rateLimiter = new UnauthorizedRateLimiter(CAPACITY, 1, 10000);
+    private final AuthInterceptor interceptor =
+            new AuthInterceptor(oauthTokenService, rejectedTokenCache, rateLimiter);
+
+    @Test
+    void repeatingSameBadTokenIsThrottled() throws Exception {
+        when(oauthTokenService.findCached(anyString())).thenReturn(Optional.empty());
+        when(oauthTokenService.verifyUncached("expired-token")).thenReturn(Optional.empty());
+
+        for (int i = 0; i < CAPACITY; i++) {
+            assertThat(handle("expired-token").getStatus()).isEqualTo(401);
+        }
+
+        MockHttpServletResponse throttled = handle("expired-token");
+        assertThat(throttled.getStatus()).isEqualTo(429);
+        assertThat(throttled.getHeader("Retry-After")).isNotNull();
+        // OAuth 서버 검증은 처음 1번뿐, 나머지 401은 거절 캐시 히트 (그래도 허용량은 차감)
+        verify(oauthTokenService, times(1)).verifyUncached("expired-token");
+        assertThat(rateLimiter.getThrottledCount()).isEqualTo(1);
+    }
+
+    @Test
+    void sprayingDistinctBadTokensIsThrottled() throws Exception {
+        when(oauthTokenService.findCached(anyString())).thenReturn(Optional.empty());
+        when(oauthTokenService.verifyUncached(anyString())).thenReturn(Optional.empty());
+
+        for (int i = 0; i < CAPACITY; i++) {
+            assertThat(handle("bad-token-" + i).getStatus()).isEqualTo(401);
+        }
+
+        assertThat(handle("bad-token-" + CAPACITY).getStatus()).isEqualTo(429);
+        // 429는 검증 없이 바로 응답
+        verify(oauthTokenService, times(CAPACITY)).verifyUncached(anyString());
+    }
+
+    @Test
+    void validTokensAreNotChargedAndCachedTokensPassWhileThrottled() throws Exception {
+        when(oauthTokenService.findCached(anyString())).thenReturn(Optional.empty());
+        when(oauthTokenService.verifyUncached(anyString())).thenReturn(Optional.empty());
+        when(oauthTokenService.verifyUncached("fresh-token"))
+                .thenReturn(Optional.of(new AuthenticatedUser(7L, UserRole.CONSUMER)));
+
+        // 정상 토큰 검증 성공은 허용량을 차감하지 않음
+        for (int i = 0; i < CAPACITY * 2; i++) {
+            assertThat(interceptor.preHandle(request("fresh-token"), new MockHttpServletResponse(), new Object())).isTrue();
+        }
+        assertThat(rateLimiter.nanosUntilAllowed(CLIENT)).isZero();
+
+        for (int i = 0; i < CAPACITY; i++) {
+            assertThat(handle("bad-token-" + i).getStatus()).isEqualTo(401);
+        }
+        assertThat(handle("bad-token-" + CAPACITY).getStatus()).isEqualTo(429);
+
+        // 검증 캐시에 있는 토큰은 제한 중에도 통과
+        when(oauthTokenService.findCached("cached-token"))
+                .thenReturn(Optional.of(new AuthenticatedUser(7L, UserRole.CONSUMER)));
+        MockHttpServletRequest request = request("cached-token");
+        assertThat(interceptor.preHandle(request, new MockHttpServletResponse(), new Object())).isTrue();
+        assertThat(request.getAttribute("userId")).isEqualTo(7L);
+    }
+
+    private MockHttpServletResponse handle(String token) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        interceptor.preHandle(request(token), response, new Object());
+        return response;
+    }
+
+    private static MockHttpServletRequest request(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/cart");
+        request.setRemoteAddr(CLIENT);
+        request.addHeader("Authorization", "Bearer " + token);
+        return request;
+    }
+}
@@ -0,0 +1,44 @@
+package com.wheats.api.auth.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UnauthorizedRateLimiterTest {
+
+    private static final int CAPACITY = 3;
+    private static final String CLIENT = "203.0.113.7";
+
+    private final AtomicLong nanoClock = new AtomicLong(1_000_000_000L);
+    private final UnauthorizedRateLimiter limiter = new UnauthorizedRateLimiter(CAPACITY, 1, 100, nanoClock::get);
+
+    @Test
+    void throttlesClientAfterCapacityRejections() {
+        rejectTimes(CLIENT, CAPACITY - 1);
+        assertThat(limiter.nanosUntilAllowed(CLIENT)).isZero();
+
+        rejectTimes(CLIENT, 1);
+        assertThat(limiter.nanosUntilAllowed(CLIENT)).isPositive();
+
+        // 초당 1개 회복
+        nanoClock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertThat(limiter.nanosUntilAllowed(CLIENT)).isZero();
+    }
+
+    @Test
+    void otherClientsAreNotThrottled() {
+        rejectTimes(CLIENT, CAPACITY * 2);
+
+        assertThat(limiter.nanosUntilAllowed(CLIENT)).isPositive();
+        assertThat(limiter.nanosUntilAllowed("198.51.100.1")).isZero();
+    }
+
+    private void rejectTimes(String client, int times) {
+        for (int i = 0; i < times; i++) {
+            limiter.recordRejection(client);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.wheats.api.auth.verifier;
+
+import com.wheats.api.auth.verifier.IntrospectionCircuitBreaker.State;
+import com.wheats.api.support.MutableClock;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IntrospectionCircuitBreakerTest {
+
+    private static final int FAILURE_THRESHOLD = 3;
+    private static final Duration OPEN_DURATION = Duration.ofSeconds(10);
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2027-01-15T08:00:00Z"));
+    private final IntrospectionCircuitBreaker breaker =
+            new IntrospectionCircuitBreaker(FAILURE_THRESHOLD, OPEN_DURATION, clock);
+
+    @Test
+    void opensAfterConsecutiveFailuresAndRejectsWhileOpen() {
+        failTimes(FAILURE_THRESHOLD - 1);
+        assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+
+        failTimes(1);
+        assertThat(breaker.getState()).isEqualTo(State.OPEN);
+        assertThat(breaker.getOpenCount()).isEqualTo(1);
+
+        clock.advance(OPEN_DURATION.minusMillis(1));
+        assertThat(breaker.tryAcquire()).isFalse();
+        assertThat(breaker.getRejectedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void successResetsConsecutiveFailures() {
+        failTimes(FAILURE_THRESHOLD - 1);
+        assertThat(breaker.tryAcquire()).isTrue();
+        breaker.onSuccess();
+        failTimes(FAILURE_THRESHOLD - 1);
+
+        assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+    }
+
+    @Test
+    void halfOpenAllowsOneTrialAndClosesOnSuccess() {
+        failTimes(FAILURE_THRESHOLD);
+        clock.advance(OPEN_DURATION);
+
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.getState()).isEqualTo(State.HALF_OPEN);
+        // 시험 호출이 끝날 때까지 나머지는 거절
+        assertThat(breaker.tryAcquire()).isFalse();
+
+        breaker.onSuccess();
+        assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+        assertThat(breaker.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void failedTrialReopensForAnotherOpenPeriod() {
+        failTimes(FAILURE_THRESHOLD);
+        clock.advance(OPEN_DURATION);
+
+        assertThat(breaker.tryAcquire()).isTrue();
+        breaker.onFailure();
+
+        assertThat(breaker.getState()).isEqualTo(State.OPEN);
+        assertThat(breaker.getOpenCount()).isEqualTo(2);
+        clock.advance(OPEN_DURATION.minusMillis(1));
+        assertThat(breaker.tryAcquire()).isFalse();
+        clock.advance(Duration.ofMillis(1));
+        assertThat(breaker.tryAcquire()).isTrue();
+    }
+
+    private void failTimes(int times) {
+        for (int i = 0; i < times; i++) {
+            assertThat(breaker.tryAcquire()).isTrue();
+            breaker.onFailure();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.wheats.api.auth.verifier;
+
+import com.wheats.api.auth.dto.VerifiedToken;
+import com.wheats.api.auth.util.JwtUtil;
+import com.wheats.api.mypage.entity.UserEntity;
+import com.wheats.api.mypage.entity.UserRole;
+import com.wheats.api.mypage.repository.UserRepository;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class LocalJwtTokenVerifierTest {
+
+    private static final String SECRET = "local-jwt-token-verifier-test-secret-0123456789";
+    private static final String EMAIL = "user@test.local";
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final LocalJwtTokenVerifier verifier = new LocalJwtTokenVerifier(new JwtUtil(SECRET), userRepository);
+
+    @Test
+    void resolvesWheatsUserByEmailRatherThanSubAndRoleClaims() {
+        UserEntity user = mock(UserEntity.class);
+        when(user.getId()).thenReturn(42L);
+        when(user.getRole()).thenReturn(UserRole.MERCHANT);
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user));
+
+        // OAuth 서버가 발급한 토큰: sub는 OAuth 서버의 사용자 ID, role은 OAuth 서버 값
+        Instant expiresAt = Instant.now().plusSeconds(3600);
+        Optional<VerifiedToken> verified = verifier.verify(signedToken("7", "customer", "profile", expiresAt));
+
+        // userId / role은 Wheats DB 기준 (email로 조회)
+        assertThat(verified).isPresent();
+        assertThat(verified.get().getUser().getId()).isEqualTo(42L);
+        assertThat(verified.get().getUser().getRole()).isEqualTo(UserRole.MERCHANT);
+        assertThat(verified.get().getExpiresAt().getEpochSecond()).isEqualTo(expiresAt.getEpochSecond());
+        verify(userRepository, times(1)).findByEmail(EMAIL);
+    }
+
+    @Test
+    void rejectsTokenWithoutProfileScopeWithoutDbLookup() {
+        Optional<VerifiedToken> verified =
+                verifier.verify(signedToken("7", "customer", "orders", Instant.now().plusSeconds(3600)));
+
+        assertThat(verified).isEmpty();
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void rejectsUnknownEmail() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.empty());
+
+        assertThat(verifier.verify(signedToken("7", "customer", "profile", Instant.now().plusSeconds(3600))))
+                .isEmpty();
+    }
+
+    private static String signedToken(String subject, String role, String scope, Instant expiresAt) {
+        return Jwts.builder()
+                .subject(subject)
+                .claim("email", EMAIL)
+                .claim("role", role)
+                .claim("scope", scope)
+                .expiration(Date.from(expiresAt))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+    }
+}
@@ -0,0 +1,43 @@
+package com.wheats.api.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalManagementPort;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 관리 포트는 테스트끼리 겹치지 않도록 임의 포트
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "management.server.port=0")
+@ActiveProfiles("test")
+class ManagementPortTest {
+
+    @LocalServerPort
+    private int serverPort;
+
+    @LocalManagementPort
+    private int managementPort;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    void actuatorIsServedOnlyOnManagementPort() {
+        // @SpringBootTest는 메트릭 내보내기(prometheus)를 끄므로 항상 켜져 있는 health로 확인
+        ResponseEntity<String> publicPort = restTemplate.getForEntity(
+                "http://localhost:" + serverPort + "/actuator/health", String.class);
+        ResponseEntity<String> internalPort = restTemplate.getForEntity(
+                "http://localhost:" + managementPort + "/actuator/health", String.class);
+
+        assertThat(managementPort).isNotEqualTo(serverPort);
+        assertThat(publicPort.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(internalPort.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(internalPort.getBody()).contains("UP");
+    }
+}
@@ -0,0 +1,53 @@
+package com.wheats.api.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SqlStatementCountingDataSourceTest {
+
+    private static final int ROWS = 20;
+
+    private final SqlStatementCounter counter = new SqlStatementCounter();
+    private final JdbcTemplate jdbc = new JdbcTemplate(new SqlStatementCountingDataSource(
+            new DriverManagerDataSource("jdbc:h2:mem:statement-counting;DB_CLOSE_DELAY=-1", "sa", ""), counter));
+
+    @BeforeEach
+    void setUp() {
+        jdbc.execute("CREATE TABLE IF NOT EXISTS items (id INT PRIMARY KEY)");
+        jdbc.execute("DELETE FROM items");
+    }
+
+    @Test
+    void jdbcBatchCountsAsOneStatement() {
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            rows.add(new Object[] {i});
+        }
+
+        counter.begin();
+        jdbc.batchUpdate("INSERT INTO items (id) VALUES (?)", rows);
+        assertThat(counter.end()).isEqualTo(1);
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM items", Integer.class)).isEqualTo(ROWS);
+    }
+
+    @Test
+    void separateInsertsAreCountedOneByOne() {
+        long totalBefore = counter.getTotalCount();
+
+        counter.begin();
+        for (int i = 0; i < ROWS; i++) {
+            jdbc.update("INSERT INTO items (id) VALUES (?)", i);
+        }
+        jdbc.queryForObject("SELECT COUNT(*) FROM items", Integer.class);
+
+        assertThat(counter.end()).isEqualTo(ROWS + 1);
+        assertThat(counter.getTotalCount()).isEqualTo(totalBefore + ROWS + 1);
+    }
+}
@@ -0,0 +1,158 @@
+package com.wheats.api.order.service;
+
+import com.wheats.api.config.SqlStatementCounter;
+import com.wheats.api.order.cache.ActiveCartCache;
+import com.wheats.api.order.dto.CartItemRequest;
+import com.wheats.api.order.dto.CartResponse;
+import com.wheats.api.order.entity.CartEntity;
+import com.wheats.api.order.repository.CartRepository;
+import com.wheats.api.store.cache.CatalogCache;
+import com.wheats.api.store.entity.MenuEntity;
+import com.wheats.api.store.repository.MenuRepository;
+import com.wheats.api.support.TestFixtures;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class CartServiceTest {
+
+    private static final int MENU_PRICE = 8000;
+
+    @Autowired
+    private CartService cartServiceBean;
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    @Autowired
+    private MenuRepository menuRepository;
+
+    @Autowired
+    private SqlStatementCounter sqlStatementCounter;
+
+    @Autowired
+    private ActiveCartCache activeCartCache;
+
+    @Autowired
+    private CatalogCache catalogCache;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    private CartService cartService;
+
+    @BeforeEach
+    void setUp() {
+        // package-private 메서드를 프록시(@Transactional)가 아닌 실제 객체에서 호출
+        Object target = AopProxyUtils.getSingletonTarget(cartServiceBean);
+        cartService = (target != null) ? (CartService) target : cartServiceBean;
+    }
+
+    @Test
+    void buildCartResponse_runsOneQueryRegardlessOfItemCount() {
+        CartEntity singleItemCart = cartWithItems(1);
+        CartEntity manyItemCart = cartWithItems(20);
+
+        sqlStatementCounter.begin();
+        CartResponse single = cartService.buildCartResponse(singleItemCart);
+        int singleItemStatements = sqlStatementCounter.end();
+
+        sqlStatementCounter.begin();
+        CartResponse many = cartService.buildCartResponse(manyItemCart);
+        int manyItemStatements = sqlStatementCounter.end();
+
+        assertThat(singleItemStatements).isEqualTo(1);
+        assertThat(manyItemStatements).isEqualTo(1);
+        assertThat(single.getItems()).hasSize(1);
+        assertThat(many.getItems()).hasSize(20);
+        assertThat(many.getTotalPrice()).isEqualTo(20 * MENU_PRICE * 2);
+    }
+
+    @Test
+    void getMyCart_showsNewPriceAfterMenuPriceChange() {
+        long userId = fixtures.insertUser(0);
+        long storeId = fixtures.insertStore(0);
+        long cartId = fixtures.insertCart(userId, storeId);
+        long menuId = fixtures.insertMenu(storeId, "후라이드", MENU_PRICE);
+        fixtures.insertCartItem(cartId, menuId, 2);
+
+        // 첫 조회로 ACTIVE 장바구니 캐시 적재
+        assertThat(cartServiceBean.getMyCart(userId).orElseThrow().getTotalPrice()).isEqualTo(MENU_PRICE * 2);
+
+        // 엔티티로 가격 변경 → CatalogChangeListener가 커밋 후 카탈로그 버전 증가
+        MenuEntity menu = menuRepository.findById(menuId).orElseThrow();
+        menu.setPrice(MENU_PRICE + 1000);
+        menuRepository.save(menu);
+
+        CartResponse cart = cartServiceBean.getMyCart(userId).orElseThrow();
+        assertThat(cart.getItems().get(0).getUnitPrice()).isEqualTo(MENU_PRICE + 1000);
+        assertThat(cart.getTotalPrice()).isEqualTo((MENU_PRICE + 1000) * 2);
+    }
+
+    @Test
+    void getMyCart_keepsCachedCartWhenCatalogReloadsWithSameContent() {
+        long userId = fixtures.insertUser(0);
+        long storeId = fixtures.insertStore(0);
+        long cartId = fixtures.insertCart(userId, storeId);
+        fixtures.insertCartItem(cartId, fixtures.insertMenu(storeId, "후라이드", MENU_PRICE), 1);
+        cartServiceBean.getMyCart(userId);
+
+        // 카탈로그 버전만 오르고 내용은 그대로 (= 다른 인스턴스가 같은 카탈로그로 만든 스냅샷과 같은 상황)
+        catalogCache.invalidate();
+
+        long hitsBefore = activeCartCache.getHitCount();
+        cartServiceBean.getMyCart(userId);
+        assertThat(activeCartCache.getHitCount()).isEqualTo(hitsBefore + 1);
+    }
+
+    @Test
+    void addItem_doesNotWriteToCachedCartThatIsNoLongerActive() {
+        long userId = fixtures.insertUser(0);
+        long storeId = fixtures.insertStore(0);
+        long menuId = fixtures.insertMenu(storeId, "후라이드", MENU_PRICE);
+        long cartId = fixtures.insertCart(userId, storeId);
+        fixtures.insertCartItem(cartId, menuId, 1);
+        cartServiceBean.getMyCart(userId);
+
+        // 캐시를 거치지 않고 주문 완료 처리 (다른 인스턴스가 주문한 상황)
+        jdbc.update("UPDATE carts SET status = 'ORDERED' WHERE id = ?", cartId);
+
+        CartResponse cart = cartServiceBean.addItem(userId, itemRequest(storeId, menuId, 3), false);
+
+        assertThat(cart.getCartId()).isNotEqualTo(cartId);
+        assertThat(cart.getItems()).hasSize(1);
+        assertThat(cart.getItems().get(0).getQuantity()).isEqualTo(3);
+        assertThat(jdbc.queryForObject("SELECT quantity FROM cart_items WHERE cart_id = ?", Integer.class, cartId))
+                .isEqualTo(1);
+    }
+
+    private static CartItemRequest itemRequest(long storeId, long menuId, int quantity) {
+        CartItemRequest request = new CartItemRequest();
+        request.setStoreId(storeId);
+        request.setMenuId(menuId);
+        request.setQuantity(quantity);
+        return request;
+    }
+
+    private CartEntity cartWithItems(int itemCount) {
+        long userId = fixtures.insertUser(0);
+        long storeId = fixtures.insertStore(0);
+        long cartId = fixtures.insertCart(userId, storeId);
+        for (int i = 0; i < itemCount; i++) {
+            long menuId = fixtures.insertMenu(storeId, "메뉴 " + i, MENU_PRICE);
+            fixtures.insertCartItem(cartId, menuId, 2);
+        }
+        return cartRepository.findById(cartId).orElseThrow();
+    }
+}
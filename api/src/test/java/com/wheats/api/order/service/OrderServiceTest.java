@@ -0,0 +1,148 @@
+package com.wheats.api.order.service;
+
+import com.wheats.api.config.SqlStatementCounter;
+import com.wheats.api.order.dto.OrderRequest;
+import com.wheats.api.order.entity.OrderEntity;
+import com.wheats.api.support.TestFixtures;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.EntityStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class OrderServiceTest {
+
+    private static final int MENU_PRICE = 10000;
+    private static final int DELIVERY_TIP = 2000;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private SqlStatementCounter sqlStatementCounter;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void createOrder_insertsOrderOnceWithoutFollowUpUpdate() {
+        long userId = fixtures.insertUser(1_000_000);
+        long cartId = cartWithItems(userId, 3);
+
+        statistics.clear();
+        orderService.createOrder(userId, orderRequest(cartId));
+
+        EntityStatistics orders = statistics.getEntityStatistics(OrderEntity.class.getName());
+        assertThat(orders.getInsertCount()).isEqualTo(1);
+        assertThat(orders.getUpdateCount()).isZero();
+    }
+
+    @Test
+    void createOrder_statementCountDoesNotGrowWithItemCount() {
+        long userId = fixtures.insertUser(1_000_000);
+        long singleItemCart = cartWithItems(userId, 1);
+        long manyItemCart = cartWithItems(userId, 20);
+
+        // JDBC 수준 집계 → JdbcTemplate batch INSERT(주문 아이템)도 포함, batch는 아이템 수와 관계없이 1번
+        int singleItemStatements = countStatements(userId, singleItemCart);
+        int manyItemStatements = countStatements(userId, manyItemCart);
+
+        assertThat(singleItemStatements).isPositive();
+        assertThat(manyItemStatements).isEqualTo(singleItemStatements);
+    }
+
+    @Test
+    void createOrder_concurrentCheckoutsNeverOverdrawPoints() throws Exception {
+        int threads = 16;
+        int affordableOrders = 5;
+        int orderTotal = MENU_PRICE + DELIVERY_TIP;
+        // 주문 5건 + 반 건 금액 → 6번째 주문부터는 잔액 부족
+        int initialPoint = affordableOrders * orderTotal + orderTotal / 2;
+        long userId = fixtures.insertUser(initialPoint);
+
+        List<Long> cartIds = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            cartIds.add(cartWithItems(userId, 1));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        try {
+            for (long cartId : cartIds) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        orderService.createOrder(userId, orderRequest(cartId));
+                        return true;
+                    } catch (IllegalStateException insufficientPoints) {
+                        return false;
+                    }
+                }));
+            }
+            start.countDown();
+
+            int succeeded = 0;
+            for (Future<Boolean> result : results) {
+                if (result.get(30, TimeUnit.SECONDS)) {
+                    succeeded++;
+                }
+            }
+
+            assertThat(succeeded).isEqualTo(affordableOrders);
+            assertThat(fixtures.pointOf(userId))
+                    .isNotNegative()
+                    .isEqualTo(initialPoint - affordableOrders * orderTotal);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private int countStatements(long userId, long cartId) {
+        sqlStatementCounter.begin();
+        orderService.createOrder(userId, orderRequest(cartId));
+        return sqlStatementCounter.end();
+    }
+
+    private long cartWithItems(long userId, int itemCount) {
+        long storeId = fixtures.insertStore(DELIVERY_TIP);
+        long cartId = fixtures.insertCart(userId, storeId);
+        for (int i = 0; i < itemCount; i++) {
+            long menuId = fixtures.insertMenu(storeId, "메뉴 " + i, MENU_PRICE);
+            fixtures.insertCartItem(cartId, menuId, 1);
+        }
+        return cartId;
+    }
+
+    private static OrderRequest orderRequest(long cartId) {
+        OrderRequest request = new OrderRequest();
+        request.setCartId(cartId);
+        return request;
+    }
+}
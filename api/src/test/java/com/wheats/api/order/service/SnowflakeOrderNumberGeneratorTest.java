@@ -0,0 +1,117 @@
+package com.wheats.api.order.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SnowflakeOrderNumberGeneratorTest {
+
+    private static final int SEQUENCE_PER_MILLI = 1 << 12;
+
+    // 2027-01-15T08:00:00Z
+    private static final long NOW_MILLIS = 1_800_000_000_000L;
+
+    @Test
+    void nextOrderNumber_isUniqueAcrossThreads() throws Exception {
+        int threads = 8;
+        int idsPerThread = 250_000;
+        SnowflakeOrderNumberGenerator generator = new SnowflakeOrderNumberGenerator(7);
+        Set<String> orderNumbers = ConcurrentHashMap.newKeySet(threads * idsPerThread);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> duplicates = new ArrayList<>();
+        try {
+            for (int t = 0; t < threads; t++) {
+                duplicates.add(executor.submit(() -> {
+                    start.await();
+                    int count = 0;
+                    for (int i = 0; i < idsPerThread; i++) {
+                        if (!orderNumbers.add(generator.nextOrderNumber())) {
+                            count++;
+                        }
+                    }
+                    return count;
+                }));
+            }
+            start.countDown();
+
+            for (Future<Integer> result : duplicates) {
+                assertThat(result.get(2, TimeUnit.MINUTES)).isZero();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(orderNumbers).hasSize(threads * idsPerThread);
+    }
+
+    @Test
+    void nextOrderNumber_hasPrefixAndTwelveBase36Digits() {
+        SnowflakeOrderNumberGenerator generator = new SnowflakeOrderNumberGenerator(1023, () -> NOW_MILLIS);
+
+        assertThat(generator.nextOrderNumber()).matches("ORD-[0-9A-Z]{12}");
+    }
+
+    @Test
+    void nextId_sequenceOverflowBorrowsNextMillisecond() {
+        SnowflakeOrderNumberGenerator generator = new SnowflakeOrderNumberGenerator(3, () -> NOW_MILLIS);
+
+        long first = generator.nextId();
+        long previous = first;
+        for (int i = 1; i < SEQUENCE_PER_MILLI * 3; i++) {
+            long id = generator.nextId();
+            assertThat(id).isGreaterThan(previous);
+            previous = id;
+        }
+
+        // 같은 ms에 4096개를 넘으면 시퀀스 0부터 다음 ms로 넘어감
+        assertThat(timestampOf(previous)).isEqualTo(timestampOf(first) + 2);
+        assertThat(sequenceOf(previous)).isEqualTo(SEQUENCE_PER_MILLI - 1);
+        assertThat(nodeOf(previous)).isEqualTo(3);
+    }
+
+    @Test
+    void nextId_staysMonotonicWhenClockMovesBackwards() {
+        AtomicLong clock = new AtomicLong(NOW_MILLIS);
+        SnowflakeOrderNumberGenerator generator = new SnowflakeOrderNumberGenerator(0, clock::get);
+
+        long beforeRollback = generator.nextId();
+        clock.set(NOW_MILLIS - 5_000);
+        long afterRollback = generator.nextId();
+        long next = generator.nextId();
+
+        assertThat(afterRollback).isGreaterThan(beforeRollback);
+        assertThat(next).isGreaterThan(afterRollback);
+        assertThat(timestampOf(afterRollback)).isEqualTo(timestampOf(beforeRollback));
+
+        // 시계가 원래 시각을 지나면 다시 현재 시각 기준으로 생성
+        clock.set(NOW_MILLIS + 1);
+        long recovered = generator.nextId();
+        assertThat(recovered).isGreaterThan(next);
+        assertThat(timestampOf(recovered)).isEqualTo(timestampOf(beforeRollback) + 1);
+        assertThat(sequenceOf(recovered)).isZero();
+    }
+
+    private static long timestampOf(long id) {
+        return id >>> 22;
+    }
+
+    private static long nodeOf(long id) {
+        return (id >>> 12) & 1023;
+    }
+
+    private static long sequenceOf(long id) {
+        return id & (SEQUENCE_PER_MILLI - 1);
+    }
+}
@@ -0,0 +1,50 @@
+package com.wheats.api.store.cache;
+
+import com.wheats.api.store.dto.MenuItem;
+import com.wheats.api.store.dto.Store;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CatalogSnapshotTest {
+
+    private static final Instant LOADED_AT = Instant.parse("2027-01-15T08:00:00Z");
+
+    @Test
+    void eTag_staysTheSameWhenUnchangedCatalogIsReloaded() {
+        CatalogSnapshot first = snapshot(0, LOADED_AT, 18000);
+        // max-staleness 재적재 / 재시작 후 적재: 적재 시각과 버전은 달라도 내용은 같음
+        CatalogSnapshot reloaded = snapshot(3, LOADED_AT.plusSeconds(60), 18000);
+
+        assertThat(reloaded.getETag()).isEqualTo(first.getETag());
+    }
+
+    @Test
+    void eTag_changesWhenMenuPriceChanges() {
+        CatalogSnapshot before = snapshot(0, LOADED_AT, 18000);
+        CatalogSnapshot after = snapshot(0, LOADED_AT, 19000);
+
+        assertThat(after.getETag()).isNotEqualTo(before.getETag());
+        assertThat(after.getETag()).matches("\"catalog-[0-9a-f]{32}\"");
+    }
+
+    private static CatalogSnapshot snapshot(long version, Instant loadedAt, int menuPrice) {
+        Store store = new Store();
+        store.setId(1L);
+        store.setName("테스트 가게");
+        store.setCategory("치킨");
+        store.setDeliveryTip(2000);
+
+        MenuItem menu = new MenuItem();
+        menu.setId(10L);
+        menu.setName("후라이드");
+        menu.setPrice(menuPrice);
+        menu.setAvailable(true);
+
+        return new CatalogSnapshot(version, loadedAt, List.of(store), Map.of(1L, List.of(menu)));
+    }
+}
@@ -0,0 +1,116 @@
+package com.wheats.api.store.controller;
+
+import com.wheats.api.store.cache.CatalogCache;
+import com.wheats.api.support.TestFixtures;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 작은 응답도 gzip 압축본을 만들도록 임계값을 낮춤
+@SpringBootTest(properties = "catalog.response.gzip-min-bytes=1")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class StoreControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CatalogCache catalogCache;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    private String detailPath;
+
+    @BeforeEach
+    void setUp() {
+        long storeId = fixtures.insertStore(2000);
+        fixtures.insertMenu(storeId, "후라이드", 18000);
+        // JdbcTemplate INSERT는 CatalogChangeListener를 거치지 않으므로 직접 무효화
+        catalogCache.invalidate();
+        detailPath = "/api/stores/" + storeId;
+    }
+
+    @Test
+    void gzipAndIdentityBodiesHaveDifferentETags() throws Exception {
+        String identityETag = mockMvc.perform(get(detailPath))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        List<String> gzipETags = mockMvc.perform(get(detailPath).header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andReturn().getResponse().getHeaders(HttpHeaders.ETAG);
+
+        assertThat(gzipETags).hasSize(1);
+        String gzipETag = gzipETags.get(0);
+
+        assertThat(identityETag).matches("\"catalog-[0-9a-f]+\"");
+        assertThat(gzipETag).isEqualTo(identityETag.replaceFirst("\"$", "-gz\""));
+    }
+
+    @Test
+    void ifNoneMatchAcceptsEitherRepresentationTag() throws Exception {
+        String identityETag = mockMvc.perform(get(detailPath))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        String gzipETag = mockMvc.perform(get(detailPath).header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get(detailPath).header(HttpHeaders.IF_NONE_MATCH, gzipETag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, gzipETag));
+        mockMvc.perform(get(detailPath)
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                        .header(HttpHeaders.IF_NONE_MATCH, "W/" + identityETag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, identityETag));
+        mockMvc.perform(get(detailPath).header(HttpHeaders.IF_NONE_MATCH, "\"catalog-stale\""))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void invalidRequestsAreNotAnswered304EvenWithMatchingETag() throws Exception {
+        String eTag = mockMvc.perform(get(detailPath))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/stores/" + Long.MAX_VALUE).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/stores/" + Long.MAX_VALUE + "/menus").header(HttpHeaders.IF_NONE_MATCH, "*"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/stores").param("cursor", "not-a-cursor").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/stores").param("sort", "price").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void gzipIsSentOnlyWhenAcceptEncodingAllowsIt() throws Exception {
+        String identityETag = mockMvc.perform(get(detailPath))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        for (String refused : List.of("gzip;q=0", "x-gzip;q=0", "GZIP; q=0.0, deflate", "identity, *;q=0", "br")) {
+            mockMvc.perform(get(detailPath).header(HttpHeaders.ACCEPT_ENCODING, refused))
+                    .andExpect(status().isOk())
+                    .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                    .andExpect(header().string(HttpHeaders.ETAG, identityETag));
+        }
+        for (String accepted : List.of("gzip", "deflate, x-gzip", "GZIP;q=0.5", "br;q=1, *")) {
+            mockMvc.perform(get(detailPath).header(HttpHeaders.ACCEPT_ENCODING, accepted))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"));
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.wheats.api.support;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.UUID;
+
+/**
+ * 테스트 데이터 (JdbcTemplate으로 직접 INSERT)
+ *
+ * - 테스트끼리 같은 H2 DB를 공유하므로 고정 id 대신 생성된 id를 반환한다
+ * - 엔티티/서비스를 거치지 않으므로 측정 대상 코드의 SQL 수에 섞이지 않음
+ */
+@Component
+public class TestFixtures {
+
+    private final JdbcTemplate jdbc;
+
+    public TestFixtures(JdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    public long insertStore(int deliveryTip) {
+        return insert("INSERT INTO stores (name, category, description, min_order_price, delivery_tip, "
+                        + "rating, review_count, is_open) VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                "테스트 가게", "치킨", "테스트용 가게", 10000, deliveryTip, 4.5, 0, true);
+    }
+
+    public long insertMenu(long storeId, String name, int price) {
+        return insert("INSERT INTO menus (store_id, name, price, description, is_available) VALUES (?, ?, ?, ?, ?)",
+                storeId, name, price, "메뉴 설명", true);
+    }
+
+    public long insertUser(int point) {
+        return insert("INSERT INTO users (name, email, role, point) VALUES (?, ?, ?, ?)",
+                "테스트 사용자", UUID.randomUUID() + "@test.local", "CONSUMER", point);
+    }
+
+    public long insertCart(long userId, long storeId) {
+        return insert("INSERT INTO carts (user_id, store_id, status) VALUES (?, ?, ?)", userId, storeId, "ACTIVE");
+    }
+
+    public long insertCartItem(long cartId, long menuId, int quantity) {
+        return insert("INSERT INTO cart_items (cart_id, menu_id, quantity, status) VALUES (?, ?, ?, ?)",
+                cartId, menuId, quantity, "ACTIVE");
+    }
+
+    public int pointOf(long userId) {
+        return jdbc.queryForObject("SELECT point FROM users WHERE id = ?", Integer.class, userId);
+    }
+
+    private long insert(String sql, Object... args) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbc.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+            for (int i = 0; i < args.length; i++) {
+                ps.setObject(i + 1, args[i]);
+            }
+            return ps;
+        }, keyHolder);
+        return keyHolder.getKey().longValue();
+    }
+}
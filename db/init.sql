@@ -110,13 +110,13 @@ INSERT INTO users (
     2,
     2,
     'GOOGLE',
-    '1234567890'
+    '1234567891'
   ),
   (
     3,
     3,
     'GOOGLE',
-    '1234567890'
+    '1234567892'
   );
 
 -- =========================
@@ -169,6 +169,10 @@ INSERT INTO orders (
   cart_id,
   status,
   total_price,
+  store_name,
+  first_item_name,
+  item_count,
+  order_amount,
   created_at,
   paid_at,
   receipt_flag
@@ -181,6 +185,10 @@ INSERT INTO orders (
     1,           -- cart_id 1을 사용 (과거 이 장바구니로 주문한 것으로 가정)
     'PAID',
     26000,
+    '황금치킨',
+    '후라이드 치킨',
+    2,
+    26000,
     NOW() - INTERVAL 2 DAY,
     NOW() - INTERVAL 2 DAY,
     'WHEATS{DUMMY_FLAG_1}'
@@ -193,6 +201,10 @@ INSERT INTO orders (
     1,
     'PAID',
     16000,
+    '황금치킨',
+    '후라이드 치킨',
+    1,
+    16000,
     NOW() - INTERVAL 1 DAY,
     NOW() - INTERVAL 1 DAY,
     'WHEATS{DUMMY_FLAG_2}'
@@ -202,13 +214,14 @@ INSERT INTO orders (
 -- ORDER_ITEMS (각 주문 상세)
 -- =========================
 INSERT INTO order_items (
-  id, order_id, menu_id, quantity, unit_price
+  id, order_id, menu_id, menu_name, quantity, unit_price
 ) VALUES
   -- 주문 1: 후라이드 1 + 치즈볼 2
   (
     1,
     1,      -- ORD-TEST-0001
     1,      -- 후라이드 치킨
+    '후라이드 치킨',
     1,
     16000
   ),
@@ -216,6 +229,7 @@ INSERT INTO order_items (
     2,
     1,      -- ORD-TEST-0001
     4,      -- 치즈볼
+    '치즈볼',
     2,
     5000
   ),
@@ -224,6 +238,7 @@ INSERT INTO order_items (
     3,
     2,      -- ORD-TEST-0002
     1,      -- 후라이드 치킨
+    '후라이드 치킨',
     1,
     16000
   );
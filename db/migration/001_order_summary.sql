@@ -0,0 +1,44 @@
+-- =========================
+-- 기존 DB용 마이그레이션: 주문 요약(스냅샷) 컬럼 추가 + 기존 주문 백필
+-- (새로 만드는 DB는 schema.sql / init.sql에 이미 반영되어 있으므로 실행할 필요 없음)
+-- =========================
+USE wheats;
+
+ALTER TABLE orders
+  ADD COLUMN store_name VARCHAR(100) DEFAULT NULL AFTER total_price,
+  ADD COLUMN first_item_name VARCHAR(100) DEFAULT NULL AFTER store_name,
+  ADD COLUMN item_count INT NOT NULL DEFAULT 0 AFTER first_item_name,
+  ADD COLUMN order_amount INT NOT NULL DEFAULT 0 AFTER item_count;
+
+ALTER TABLE order_items
+  ADD COLUMN menu_name VARCHAR(100) DEFAULT NULL AFTER menu_id;
+
+-- 주문 아이템 메뉴 이름 (현재 메뉴 이름 기준, 삭제된 메뉴는 NULL 유지)
+UPDATE order_items oi
+  JOIN menus m ON m.id = oi.menu_id
+SET oi.menu_name = m.name;
+
+-- 가게 이름
+UPDATE orders o
+  JOIN stores s ON s.id = o.store_id
+SET o.store_name = s.name;
+
+-- 아이템 수 / 메뉴 금액 합계
+UPDATE orders o
+  JOIN (
+    SELECT order_id, COUNT(*) AS item_count, SUM(unit_price * quantity) AS order_amount
+    FROM order_items
+    GROUP BY order_id
+  ) agg ON agg.order_id = o.id
+SET o.item_count = agg.item_count,
+    o.order_amount = agg.order_amount;
+
+-- 첫 번째 아이템(가장 작은 order_items.id) 메뉴 이름
+UPDATE orders o
+  JOIN (
+    SELECT order_id, MIN(id) AS first_id
+    FROM order_items
+    GROUP BY order_id
+  ) f ON f.order_id = o.id
+  JOIN order_items oi ON oi.id = f.first_id
+SET o.first_item_name = oi.menu_name;
@@ -107,6 +107,11 @@ CREATE TABLE IF NOT EXISTS orders (
   cart_id BIGINT NOT NULL,
   status ENUM('PENDING', 'PAID', 'CANCELLED') NOT NULL DEFAULT 'PENDING',
   total_price INT NOT NULL,
+  -- 주문 시점 요약 (주문 생성 시 한 번만 기록, 이후 가게/메뉴가 바뀌어도 그대로)
+  store_name VARCHAR(100) DEFAULT NULL,      -- 가게 이름 스냅샷
+  first_item_name VARCHAR(100) DEFAULT NULL, -- 첫 번째 주문 아이템 메뉴 이름 스냅샷
+  item_count INT NOT NULL DEFAULT 0,         -- 주문 아이템(행) 수
+  order_amount INT NOT NULL DEFAULT 0,       -- 메뉴 금액 합계 (배달료 제외)
   created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
   paid_at TIMESTAMP NULL DEFAULT NULL,
   receipt_flag VARCHAR(255) DEFAULT NULL, -- CTF용 플래그
@@ -129,6 +134,7 @@ CREATE TABLE IF NOT EXISTS order_items (
   id BIGINT AUTO_INCREMENT PRIMARY KEY,
   order_id BIGINT NOT NULL,
   menu_id BIGINT NOT NULL,
+  menu_name VARCHAR(100) DEFAULT NULL, -- 주문 시점 메뉴 이름 스냅샷
   quantity INT NOT NULL,
   unit_price INT NOT NULL,
   CONSTRAINT fk_order_items_order
@@ -0,0 +1,8 @@
+package com.example.mobile.data.model
+
+// 주문 내역 페이지 (keyset 커서, 최신 주문부터)
+data class OrderHistoryPageResponse(
+    val items: List<OrderHistoryItem>,
+    val nextCursor: String?,   // 다음 페이지 요청 시 cursor로 전달, 마지막 페이지면 null
+    val hasNext: Boolean
+)
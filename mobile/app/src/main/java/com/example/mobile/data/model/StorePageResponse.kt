@@ -0,0 +1,8 @@
+package com.example.mobile.data.model
+
+// 가게 목록 페이지 (keyset 커서)
+data class StorePageResponse(
+    val items: List<Store>,
+    val nextCursor: String?,   // 다음 페이지 요청 시 cursor로 전달, 마지막 페이지면 null
+    val hasNext: Boolean
+)
@@ -6,11 +6,13 @@ import android.os.Looper
 import com.example.mobile.WhEatsApplication
 import com.example.mobile.data.auth.AuthStateManager
 import com.example.mobile.ui.auth.LoginActivity
+import okhttp3.Cache
 import okhttp3.Interceptor
 import okhttp3.OkHttpClient
 import okhttp3.logging.HttpLoggingInterceptor
 import retrofit2.Retrofit
 import retrofit2.converter.gson.GsonConverterFactory
+import java.io.File
 import java.util.concurrent.TimeUnit
 import java.util.concurrent.atomic.AtomicBoolean
 
@@ -102,7 +104,17 @@ object ApiClient {
         response
     }
 
+    // HTTP 디스크 캐시: 가게/메뉴 응답(ETag + Cache-Control: no-cache)을 저장해 두고
+    // 다음 요청 때 OkHttp가 If-None-Match를 자동으로 붙인다 → 변경 없으면 304로 본문 없이 재사용
+    private const val HTTP_CACHE_SIZE_BYTES = 10L * 1024 * 1024
+
+    private val httpCache = Cache(
+        File(WhEatsApplication.instance.cacheDir, "http_cache"),
+        HTTP_CACHE_SIZE_BYTES
+    )
+
     private val okHttpClient = OkHttpClient.Builder()
+        .cache(httpCache)
         .connectTimeout(30, TimeUnit.SECONDS)
         .readTimeout(30, TimeUnit.SECONDS)
         .writeTimeout(30, TimeUnit.SECONDS)
@@ -3,11 +3,13 @@ package com.example.mobile.data.network
 import com.example.mobile.data.model.CreateSupportTicketRequest
 import com.example.mobile.data.model.MyPageProfileResponse
 import com.example.mobile.data.model.MyPageResponse
+import com.example.mobile.data.model.OrderHistoryPageResponse
 import com.example.mobile.data.model.SupportTicketResponse
 import retrofit2.Call
 import retrofit2.http.Body
 import retrofit2.http.GET
 import retrofit2.http.POST
+import retrofit2.http.Query
 
 /**
  * 마이페이지 관련 API 정의
@@ -15,6 +17,7 @@ import retrofit2.http.POST
  * 서버 컨트롤러 기준:
  * - GET  /api/users/me
  * - GET  /api/users/me/page
+ * - GET  /api/users/me/orders
  * - GET  /api/users/me/support-tickets
  * - POST /api/users/me/support-tickets
  *
@@ -54,9 +57,13 @@ interface MyPageApi {
     ): Call<SupportTicketResponse>
 
     /**
-     * 전체 주문 내역 조회
-     * GET /api/users/me/orders
+     * 주문 내역 페이지 조회 (최신 주문부터)
+     * GET /api/users/me/orders?size=20&cursor=...
+     * - cursor: 이전 페이지 응답의 nextCursor (첫 페이지는 null)
      */
     @GET("/api/users/me/orders")
-    fun getAllOrderHistory(): Call<List<com.example.mobile.data.model.OrderHistoryItem>>
+    fun getOrderHistory(
+        @Query("cursor") cursor: String?,
+        @Query("size") size: Int
+    ): Call<OrderHistoryPageResponse>
 }
@@ -2,15 +2,24 @@ package com.example.mobile.data.network
 
 import com.example.mobile.data.model.Store
 import com.example.mobile.data.model.StoreDetailResponse
+import com.example.mobile.data.model.StorePageResponse
 import com.example.mobile.data.model.OwnerDashboardResponse
 import retrofit2.http.GET
 import retrofit2.http.Path
+import retrofit2.http.Query
 
 interface StoreApi {
 
-    // 가게 목록
+    // 가게 목록 (페이지 단위, cursor=null이면 첫 페이지)
     @GET("api/stores")
-    suspend fun getStores(): List<Store>
+    suspend fun getStores(
+        @Query("cursor") cursor: String? = null,
+        @Query("size") size: Int = 20
+    ): StorePageResponse
+
+    // 가게 목록 전체 (하위 호환용)
+    @GET("api/stores?all=true")
+    suspend fun getAllStores(): List<Store>
 
     // 가게 상세 (가게 + 메뉴들)
     @GET("api/stores/{id}")
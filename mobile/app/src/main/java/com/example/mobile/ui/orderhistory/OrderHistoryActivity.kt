@@ -16,6 +16,12 @@ class OrderHistoryActivity : AppCompatActivity() {
     private lateinit var recyclerView: RecyclerView
     private lateinit var adapter: OrderHistoryAdapter
 
+    private var isLoading = false
+
+    // 페이지네이션 상태 (다음 페이지 커서, null이면 더 없음)
+    private var nextCursor: String? = null
+    private var hasNext = false
+
     private val job = SupervisorJob()
     private val uiScope = CoroutineScope(Dispatchers.Main + job)
 
@@ -26,25 +32,51 @@ class OrderHistoryActivity : AppCompatActivity() {
         recyclerView = findViewById(R.id.rvOrderHistory)
         adapter = OrderHistoryAdapter()
 
-        recyclerView.layoutManager = LinearLayoutManager(this)
+        val layoutManager = LinearLayoutManager(this)
+        recyclerView.layoutManager = layoutManager
         recyclerView.adapter = adapter
 
+        // 목록 끝 근처까지 스크롤하면 다음 페이지 요청
+        recyclerView.addOnScrollListener(object : RecyclerView.OnScrollListener() {
+            override fun onScrolled(recyclerView: RecyclerView, dx: Int, dy: Int) {
+                if (dy <= 0 || isLoading || !hasNext) return
+                val lastVisible = layoutManager.findLastVisibleItemPosition()
+                if (lastVisible >= adapter.itemCount - PREFETCH_DISTANCE) {
+                    loadOrderHistory(nextCursor ?: return)
+                }
+            }
+        })
+
         findViewById<ImageButton>(R.id.btnBack).setOnClickListener {
             finish()
         }
 
-        loadOrderHistory()
+        loadOrderHistory(cursor = null)
     }
 
-    private fun loadOrderHistory() {
+    /**
+     * 주문 내역 한 페이지 조회
+     * @param cursor null이면 첫 페이지 (목록 교체), 아니면 다음 페이지 (목록 뒤에 추가)
+     */
+    private fun loadOrderHistory(cursor: String?) {
+        if (isLoading) return
+        isLoading = true
+
         uiScope.launch {
             try {
                 val response = withContext(Dispatchers.IO) {
-                    ApiClient.myPageApi.getAllOrderHistory().execute()
+                    ApiClient.myPageApi.getOrderHistory(cursor = cursor, size = PAGE_SIZE).execute()
                 }
 
-                if (response.isSuccessful && response.body() != null) {
-                    adapter.submitList(response.body()!!)
+                val page = response.body()
+                if (response.isSuccessful && page != null) {
+                    nextCursor = page.nextCursor
+                    hasNext = page.hasNext
+                    if (cursor == null) {
+                        adapter.submitList(page.items)
+                    } else {
+                        adapter.submitList(adapter.currentList + page.items)
+                    }
                 } else {
                     Toast.makeText(
                         this@OrderHistoryActivity,
@@ -59,6 +91,8 @@ class OrderHistoryActivity : AppCompatActivity() {
                     "주문 내역을 불러오는데 실패했습니다.",
                     Toast.LENGTH_SHORT
                 ).show()
+            } finally {
+                isLoading = false
             }
         }
     }
@@ -67,4 +101,10 @@ class OrderHistoryActivity : AppCompatActivity() {
         super.onDestroy()
         job.cancel()
     }
+
+    companion object {
+        private const val PAGE_SIZE = 20
+        // 마지막 아이템 몇 개 전에 다음 페이지를 미리 요청할지
+        private const val PREFETCH_DISTANCE = 5
+    }
 }
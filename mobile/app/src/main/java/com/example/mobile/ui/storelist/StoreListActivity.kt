@@ -9,6 +9,7 @@ import androidx.recyclerview.widget.LinearLayoutManager
 import androidx.recyclerview.widget.RecyclerView
 import com.example.mobile.R
 import com.example.mobile.data.model.Store
+import com.example.mobile.data.model.StorePageResponse
 import com.example.mobile.data.network.ApiClient
 import com.example.mobile.ui.base.BaseActivity
 import com.example.mobile.ui.storedetail.StoreDetailActivity
@@ -26,6 +27,10 @@ class StoreListActivity : BaseActivity() {
 
     private var isLoading = false
 
+    // 페이지네이션 상태 (다음 페이지 커서, null이면 더 없음)
+    private var nextCursor: String? = null
+    private var hasNext = false
+
     // 코루틴 스코프 (Activity 생명주기 따라가게)
     private val job = SupervisorJob()
     private val uiScope = CoroutineScope(Dispatchers.Main + job)
@@ -46,9 +51,21 @@ class StoreListActivity : BaseActivity() {
             openStoreDetail(store)
         }
 
-        recyclerView.layoutManager = LinearLayoutManager(this)
+        val layoutManager = LinearLayoutManager(this)
+        recyclerView.layoutManager = layoutManager
         recyclerView.adapter = adapter
 
+        // 목록 끝 근처까지 스크롤하면 다음 페이지 요청
+        recyclerView.addOnScrollListener(object : RecyclerView.OnScrollListener() {
+            override fun onScrolled(recyclerView: RecyclerView, dx: Int, dy: Int) {
+                if (dy <= 0 || isLoading || !hasNext) return
+                val lastVisible = layoutManager.findLastVisibleItemPosition()
+                if (lastVisible >= adapter.itemCount - PREFETCH_DISTANCE) {
+                    loadNextPage()
+                }
+            }
+        })
+
         // 새로고침 버튼: API 지연/실패 시 사용자가 직접 재조회 가능
         btnReload.setOnClickListener {
             loadStoresFromApi(force = true)
@@ -72,12 +89,42 @@ class StoreListActivity : BaseActivity() {
 
         uiScope.launch {
             try {
-                // 네트워크는 IO 스레드에서
-                val stores: List<Store> = withContext(Dispatchers.IO) {
-                    ApiClient.storeApi.getStores()
+                // 네트워크는 IO 스레드에서 (첫 페이지)
+                val page: StorePageResponse = withContext(Dispatchers.IO) {
+                    ApiClient.storeApi.getStores(cursor = null, size = PAGE_SIZE)
                 }
 
-                adapter.submitList(stores)
+                nextCursor = page.nextCursor
+                hasNext = page.hasNext
+                adapter.submitList(page.items)
+
+            } catch (e: Exception) {
+                e.printStackTrace()
+                Toast.makeText(
+                    this@StoreListActivity,
+                    "가게 목록을 불러오는데 실패했습니다.",
+                    Toast.LENGTH_SHORT
+                ).show()
+            } finally {
+                setLoading(false)
+            }
+        }
+    }
+
+    private fun loadNextPage() {
+        val cursor = nextCursor ?: return
+        if (isLoading) return
+        setLoading(true)
+
+        uiScope.launch {
+            try {
+                val page: StorePageResponse = withContext(Dispatchers.IO) {
+                    ApiClient.storeApi.getStores(cursor = cursor, size = PAGE_SIZE)
+                }
+
+                nextCursor = page.nextCursor
+                hasNext = page.hasNext
+                adapter.appendList(page.items)
 
             } catch (e: Exception) {
                 e.printStackTrace()
@@ -108,4 +155,10 @@ class StoreListActivity : BaseActivity() {
         super.onDestroy()
         job.cancel()
     }
+
+    companion object {
+        private const val PAGE_SIZE = 20
+        // 마지막 아이템 몇 개 전에 다음 페이지를 미리 요청할지
+        private const val PREFETCH_DISTANCE = 5
+    }
 }
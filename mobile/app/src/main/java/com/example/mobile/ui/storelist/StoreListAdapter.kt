@@ -22,6 +22,13 @@ class StoreListAdapter(
         notifyDataSetChanged()
     }
 
+    // 다음 페이지를 목록 끝에 이어 붙임
+    fun appendList(moreItems: List<Store>) {
+        val start = items.size
+        items.addAll(moreItems)
+        notifyItemRangeInserted(start, moreItems.size)
+    }
+
     override fun onCreateViewHolder(parent: ViewGroup, viewType: Int): StoreViewHolder {
         val view = LayoutInflater.from(parent.context)
             .inflate(R.layout.item_store, parent, false)
@@ -47,7 +47,7 @@ class CreateSupportTicketActivity : BaseActivity() {
         uiScope.launch {
             try {
                 stores = withContext(Dispatchers.IO) {
-                    ApiClient.storeApi.getStores()
+                    ApiClient.storeApi.getAllStores()
                 }
 
                 if (stores.isEmpty()) {
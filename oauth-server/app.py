@@ -25,6 +25,11 @@ authorization, require_oauth = config_oauth(app)
 
 
 # Error handler for OAuth token validation failures
+# 401마다 토큰 테이블 조회(LIKE 검색, COUNT(*))를 하면 무효 토큰 재시도가 그대로 DB 부하가 되므로
+# 상세 진단은 OAUTH_DEBUG_UNAUTHORIZED=1 일 때만 수행하고, 기본은 한 줄 로그만 남긴다.
+DEBUG_UNAUTHORIZED = os.getenv('OAUTH_DEBUG_UNAUTHORIZED', '0') == '1'
+
+
 @app.errorhandler(401)
 def handle_unauthorized(e):
     """Handle 401 Unauthorized errors from OAuth token validation"""
@@ -38,6 +43,19 @@ def handle_unauthorized(e):
             # Log token preview for debugging (first 10 chars + last 5 chars)
             token_preview = f"{token_value[:10]}...{token_value[-5:]}" if len(token_value) > 15 else token_value[:15]
     
+    if not DEBUG_UNAUTHORIZED:
+        print(f"❌ OAuth Token Validation Failed: {request.method} {request.path} token={token_preview or 'N/A'}")
+    else:
+        log_unauthorized_details(e, auth_header, token_value, token_preview)
+    
+    return jsonify({
+        'error': 'invalid_token',
+        'error_description': 'The access token provided is expired, revoked, malformed, or invalid for other reasons.'
+    }), 401
+
+
+def log_unauthorized_details(e, auth_header, token_value, token_preview):
+    """401 상세 진단 (OAUTH_DEBUG_UNAUTHORIZED=1) - 토큰 테이블을 조회하므로 운영에서는 끌 것"""
     print(f"❌ OAuth Token Validation Failed:")
     print(f"   Endpoint: {request.path}")
     print(f"   Method: {request.method}")
@@ -78,11 +96,6 @@ def handle_unauthorized(e):
             # 전체 토큰 개수 확인
             total_tokens = OAuth2Token.query.count()
             print(f"   🔍 Total tokens in DB: {total_tokens}")
-    
-    return jsonify({
-        'error': 'invalid_token',
-        'error_description': 'The access token provided is expired, revoked, malformed, or invalid for other reasons.'
-    }), 401
 
 
 # Responsive HTML template for login page (mobile-friendly)
@@ -871,7 +884,9 @@ def get_user_info():
         'id': user.id,
         'username': user.username,
         'email': user.email,
-        'role': user.role
+        'role': user.role,
+        # 리소스 서버(API)가 검증 결과를 토큰 만료 시각까지만 캐시하도록 전달 (Unix timestamp)
+        'expires_at': db_token.expires_at if db_token else None
     })
 
 
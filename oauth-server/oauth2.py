@@ -9,11 +9,42 @@ from authlib.integrations.sqla_oauth2 import (
 )
 from authlib.oauth2.rfc6749 import grants
 from authlib.oauth2.rfc7636 import CodeChallenge
+from authlib.jose import jwt
 from werkzeug.security import gen_salt
 from models import db, User, OAuth2Client, OAuth2AuthorizationCode, OAuth2Token
+import os
 import time
 
 
+# Signed (self-contained) access tokens
+# - OAUTH_SIGNED_ACCESS_TOKENS=1 이면 access_token을 HS256 JWT로 발급
+# - 리소스 서버(Wheats API)는 같은 JWT_SECRET_KEY로 /api/me 호출 없이 토큰을 검증할 수 있음
+#   (API 설정: oauth.verification.mode=local, jwt.secret=<같은 값>)
+# - 토큰은 기존과 동일하게 DB에도 저장되므로 /api/me, revoke 등은 그대로 동작
+SIGNED_ACCESS_TOKENS = os.getenv('OAUTH_SIGNED_ACCESS_TOKENS', '0') == '1'
+JWT_SECRET_KEY = os.getenv(
+    'JWT_SECRET_KEY',
+    'wheats-secret-key-for-jwt-token-generation-change-in-production'
+)
+
+
+def generate_signed_access_token(user, scope, issued_at, expires_in):
+    """HS256 JWT access token
+
+    save_token에서 DB expires_at을 계산한 issued_at/expires_in 그대로 exp를 만든다
+    (만료 설정이 바뀌어도 exp 클레임과 DB expires_at이 항상 일치).
+    access_token 컬럼이 String(255)이므로 클레임은 최소한으로 유지한다.
+    """
+    payload = {
+        'sub': str(user.id) if user else '',
+        'email': user.email if user else None,
+        'role': user.role if user else None,
+        'scope': scope or '',
+        'exp': issued_at + expires_in,
+    }
+    return jwt.encode({'alg': 'HS256'}, payload, JWT_SECRET_KEY).decode('utf-8')
+
+
 class AuthorizationCodeGrant(grants.AuthorizationCodeGrant):
     TOKEN_ENDPOINT_AUTH_METHODS = ['client_secret_basic', 'client_secret_post', 'none']
 
@@ -121,7 +152,12 @@ def save_token(token, request):
 
     # Calculate expires_at as Integer timestamp: current_time + expires_in
     expires_at = issued_at + expires_in
-    
+
+    if SIGNED_ACCESS_TOKENS:
+        # 실제 발급된 expires_in이 정해진 여기서 서명 토큰으로 교체 (응답에도 같은 token dict가 쓰임)
+        token['access_token'] = generate_signed_access_token(
+            request.user, token.get('scope', ''), issued_at, expires_in)
+
     access_token = token.get('access_token')
     
     # 디버깅: 토큰 저장 정보 로깅
@@ -167,7 +203,6 @@ def save_token(token, request):
 
 def config_oauth(app):
     # INSECURE: Allow HTTP for testing/development only!
-    import os
     os.environ['AUTHLIB_INSECURE_TRANSPORT'] = '1'
 
     authorization = AuthorizationServer()